@@ -1,11 +1,13 @@
 package database;
 
 import java.util.Comparator;
+import mathutils.DateUtil;
 import mathutils.MathUtil;
 import tickets.Ticket;
 import tickets.Ticket.BusinessPriority;
 import tickets.Ticket.Status;
 import milestones.Milestone;
+import milestones.MilestoneGraph;
 import io.CommandInput;
 import io.IOUtil;
 import io.UserInput;
@@ -13,11 +15,13 @@ import lombok.Getter;
 import lombok.Setter;
 import tickets.Ticket.TicketHistory;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.List;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import validation.developerhandlers.DeveloperValidationHandler;
 import validation.developerhandlers.ExpertiseAreaHandler;
 import validation.developerhandlers.LockedMilestoneHandler;
@@ -32,17 +36,25 @@ import validation.commenthandlers.CommentLengthHandler;
 import validation.commenthandlers.DeveloperAssignmentHandler;
 import validation.commenthandlers.ReporterOwnershipHandler;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
 import users.User;
 import users.Manager;
 import users.Developer;
 import users.Reporter;
 
-import services.AnalyticsService;
+import services.AnalyticsAggregates;
+import services.ReportEngine;
 import tickets.TicketFactory;
+import search.SearchResults;
 import search.SearchService;
+import search.index.CreatedAtIndex;
+import search.index.KeywordIndex;
 
 /**
- * Main database class that manages users, tickets, milestones, and commands.
+ * Main database class that manages users, tickets and milestones.
  * Implements the Singleton pattern to ensure only one instance exists.
  */
 @Getter
@@ -50,6 +62,7 @@ import search.SearchService;
 public final class Database {
     private static Database instance;
     private static final int UP_PRIORITY_INTERVAL = 3;
+    private static final int PARALLEL_PERFORMANCE_MIN = 64;
 
     /**
      * Sets the singleton instance of the database.
@@ -75,10 +88,48 @@ public final class Database {
 
     private final String usersDb = "input/database/users.json";
     private List<User> users = new ArrayList<>();
+    private final UserRegistry userRegistry = new UserRegistry();
     private List<Ticket> tickets = new ArrayList<>();
-    private List<CommandInput> commands = new ArrayList<>();
+    private final TicketStore ticketStore = new TicketStore();
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+    private final CreatedAtIndex createdAtIndex = new CreatedAtIndex();
+    private final TicketBuckets ticketBuckets = new TicketBuckets();
+    private final TicketColumns ticketColumns = new TicketColumns();
+    private final PerformanceIndex performanceIndex = new PerformanceIndex();
+    private final AnalyticsAggregates analyticsAggregates = new AnalyticsAggregates(ticketColumns);
+    private final ReportEngine reportEngine =
+            new ReportEngine(analyticsAggregates, this::getTicket);
     private final List<Milestone> milestones = new ArrayList<>();
+    private final Map<Integer, Milestone> milestoneByTicket = new HashMap<>();
+    private final Map<String, BitSet> milestoneTicketsByDev = new HashMap<>();
+    private final MilestoneGraph milestoneGraph = new MilestoneGraph();
     private LocalDate lastUpdate;
+    /** Due tomorrow notices collected while catching up, sent in day-by-day order. */
+    private final PriorityQueue<TimeEvent> dueNotices = new PriorityQueue<>();
+    private UpdateMode updateMode = UpdateMode.CATCH_UP;
+    private PerformanceMode performanceMode = PerformanceMode.PARALLEL;
+    /** Fewest subordinates a performance report scores in parallel. */
+    private int parallelPerformanceMin = PARALLEL_PERFORMANCE_MIN;
+
+    /**
+     * Ways of moving the database forward in time.
+     */
+    public enum UpdateMode {
+        /** Computes the state after a date jump directly, in constant time per ticket. */
+        CATCH_UP,
+        /** Processes every day of the jump, used as the reference for testing. */
+        DAILY
+    }
+
+    /**
+     * Ways of scoring the subordinates in a performance report.
+     */
+    public enum PerformanceMode {
+        /** Scores subordinates one after another. */
+        SEQUENTIAL,
+        /** Scores subordinates on the common fork-join pool once there are enough of them. */
+        PARALLEL
+    }
 
     /**
      * Private constructor for Singleton pattern.
@@ -89,8 +140,7 @@ public final class Database {
     /**
      * Gets the size of a specific collection in the database.
      *
-     * @param who The collection to check ("users", "tickets", "commands", or
-     *            "milestones")
+     * @param who The collection to check ("users", "tickets" or "milestones")
      * @return The size of the collection, or -1 if invalid collection name
      */
     public int getSize(final String who) {
@@ -99,8 +149,6 @@ public final class Database {
                 return users.size();
             case "tickets":
                 return tickets.size();
-            case "commands":
-                return commands.size();
             case "milestones":
                 return milestones.size();
             default:
@@ -113,9 +161,20 @@ public final class Database {
      */
     public void clearDatabase() {
         users.clear();
+        userRegistry.clear();
         tickets.clear();
-        commands.clear();
+        ticketStore.clear();
+        keywordIndex.clear();
+        createdAtIndex.clear();
+        ticketBuckets.clear();
+        performanceIndex.clear();
+        analyticsAggregates.clear();
+        reportEngine.invalidate();
         milestones.clear();
+        milestoneByTicket.clear();
+        milestoneTicketsByDev.clear();
+        milestoneGraph.clear();
+        dueNotices.clear();
     }
 
     /**
@@ -125,14 +184,8 @@ public final class Database {
      * @return The milestone name, or null if not found
      */
     public String getMilestoneNameFromTicketID(final int ticketId) {
-        for (final Milestone m : milestones) {
-            for (final int id : m.getTickets()) {
-                if (id == ticketId) {
-                    return m.getName();
-                }
-            }
-        }
-        return null;
+        final Milestone milestone = milestoneByTicket.get(ticketId);
+        return milestone != null ? milestone.getName() : null;
     }
 
     /**
@@ -142,14 +195,7 @@ public final class Database {
      * @return The milestone object, or null if not found
      */
     public Milestone getMilestoneFromTicketID(final int ticketId) {
-        for (final Milestone m : milestones) {
-            for (final int id : m.getTickets()) {
-                if (id == ticketId) {
-                    return m;
-                }
-            }
-        }
-        return null;
+        return milestoneByTicket.get(ticketId);
     }
 
     /**
@@ -210,12 +256,7 @@ public final class Database {
      * @return The user object, or null if not found
      */
     public User getUser(final String username) {
-        for (final User user : users) {
-            if (user.getUsername().equals(username)) {
-                return user;
-            }
-        }
-        return null;
+        return userRegistry.get(username);
     }
 
     /**
@@ -225,12 +266,7 @@ public final class Database {
      * @return The ticket object, or null if not found
      */
     public Ticket getTicket(final int id) {
-        for (final Ticket t : tickets) {
-            if (t.getId() == id) {
-                return t;
-            }
-        }
-        return null;
+        return ticketStore.get(id);
     }
 
     /**
@@ -265,10 +301,9 @@ public final class Database {
         }
 
         for (final int commandTicketId : command.tickets()) {
-            if (getMilestoneNameFromTicketID(commandTicketId) != null) {
-                IOUtil.milestoneError(command,
-                        "DUPE_" + getMilestoneNameFromTicketID(commandTicketId)
-                                + "_" + commandTicketId);
+            final String dupeName = getMilestoneNameFromTicketID(commandTicketId);
+            if (dupeName != null) {
+                IOUtil.milestoneError(command, "DUPE_" + dupeName + "_" + commandTicketId);
                 return;
             }
         }
@@ -277,7 +312,11 @@ public final class Database {
                 command.name(), command.blockingFor(),
                 command.dueDate(), command.tickets(), command.assignedDevs()));
         final Milestone milestone = milestones.getLast();
-        for (final int ticketId : milestone.getOpenTickets()) {
+        milestoneGraph.add(milestone);
+        for (final int ticketId : milestone.getTickets()) {
+            milestoneByTicket.putIfAbsent(ticketId, milestone);
+        }
+        for (final int ticketId : milestone.getTickets()) {
             final Ticket ticket = getTicket(ticketId);
             if (ticket == null) {
                 continue;
@@ -286,6 +325,11 @@ public final class Database {
                     milestone.getCreatedAt());
         }
         for (final String devUsername : milestone.getAssignedDevs()) {
+            final BitSet devTickets =
+                    milestoneTicketsByDev.computeIfAbsent(devUsername, k -> new BitSet());
+            for (final int ticketId : milestone.getTickets()) {
+                devTickets.set(ticketId);
+            }
             final User user = getUser(devUsername);
             if (user.getRole().name().equals("DEVELOPER")) {
                 final Developer dev = (Developer) user;
@@ -368,7 +412,7 @@ public final class Database {
         }
 
         Collections.sort(filteredTickets, (t1, t2) -> {
-            final int dateCompare = t1.getCreatedAt().compareTo(t2.getCreatedAt());
+            final int dateCompare = Integer.compare(t1.getCreatedDay(), t2.getCreatedDay());
             if (dateCompare != 0) {
                 return dateCompare;
             }
@@ -396,18 +440,6 @@ public final class Database {
         return userMilestones;
     }
 
-    /**
-     * Blocks a milestone by name.
-     *
-     * @param name The name of the milestone to block
-     */
-    public void blockMilestone(final String name) {
-        milestones.stream()
-                .filter(milestone -> name.equals(milestone.getName()))
-                .findFirst()
-                .ifPresent(milestone -> milestone.setBlocked(true));
-    }
-
     /**
      * Gets milestones visible to a specific user based on their role.
      *
@@ -448,7 +480,16 @@ public final class Database {
             return;
         }
 
-        tickets.add(TicketFactory.createTicket(command));
+        final Ticket ticket = TicketFactory.createTicket(command);
+        tickets.add(ticket);
+        ticketStore.put(ticket);
+        keywordIndex.add(ticket);
+        createdAtIndex.add(ticket);
+        ticketBuckets.add(ticket);
+        performanceIndex.update(ticket);
+        analyticsAggregates.update(ticket);
+        reportEngine.invalidate();
+        ticket.setChangeListener(this::onTicketChanged);
         Ticket.setTicketId(Ticket.getTicketId() + 1);
     }
 
@@ -459,8 +500,7 @@ public final class Database {
      * @return true if the user exists, false otherwise
      */
     public boolean userExists(final String username) {
-        return users.stream()
-                .anyMatch(user -> username.equals(user.getUsername()));
+        return userRegistry.contains(username);
     }
 
     /**
@@ -501,6 +541,7 @@ public final class Database {
 
                 })
                 .collect(Collectors.toList());
+        userRegistry.rebuild(users);
     }
 
     /**
@@ -530,12 +571,9 @@ public final class Database {
 
                 for (final Milestone milestone : devMilestones) {
                     for (final int ticketId : milestone.getTickets()) {
-                        for (final Ticket ticket : tickets) {
-                            if (ticket.getId() == ticketId
-                                    && "OPEN".equals(ticket.getStatus().toString())) {
-                                result.add(ticket);
-                                break;
-                            }
+                        final Ticket ticket = getTicket(ticketId);
+                        if (ticket != null && ticket.getStatus() == Status.OPEN) {
+                            result.add(ticket);
                         }
                     }
                 }
@@ -675,101 +713,223 @@ public final class Database {
 
     /**
      * Updates the database to a specific date.
+     * In {@link UpdateMode#CATCH_UP} mode the priorities and assignments are
+     * computed directly from the milestone's creation or unlock date, so the
+     * cost does not depend on the length of the jump.
      *
      * @param date The date to update to
      */
     public void update(final LocalDate date) {
-        for (LocalDate time = lastUpdate; !time.isAfter(date); time = time.plusDays(1)) {
-            miniUpdate(time);
+        if (updateMode == UpdateMode.DAILY) {
+            for (LocalDate time = lastUpdate; !time.isAfter(date); time = time.plusDays(1)) {
+                miniUpdate(time);
+            }
+            lastUpdate = date;
+            return;
+        }
+        if (date.isBefore(lastUpdate)) {
+            lastUpdate = date;
+            return;
+        }
+
+        for (int i = 0; i < milestones.size(); i++) {
+            final Milestone milestone = milestones.get(i);
+            if (refreshMilestoneStatus(milestone, date)) {
+                catchUpMilestone(milestone, i, date);
+            }
+        }
+        while (!dueNotices.isEmpty()) {
+            dueNotices.poll().milestone().notifyDueTomorrow();
         }
         lastUpdate = date;
     }
 
     /**
-     * Performs a daily update on the database.
+     * Applies every day after the last update, up to a date, to a milestone
+     * in one step. The due tomorrow notice is queued so it
+     * is sent in the same order as the day-by-day update.
      *
-     * @param date The date for the update
+     * @param milestone The milestone to catch up
+     * @param order     The milestone's index in creation order
+     * @param date      The last day to apply
      */
-    public void miniUpdate(final LocalDate date) {
-        milestones.forEach(milestone -> {
-            final int timeLeft = (int) ChronoUnit.DAYS
-                    .between(date, LocalDate.parse(milestone.getDueDate()));
+    private void catchUpMilestone(final Milestone milestone, final int order,
+            final LocalDate date) {
+        if (milestone.isBlocked()) {
+            return;
+        }
+        final LocalDate anchor = milestone.getUnlockedDate() != null
+                ? milestone.getUnlockedDate()
+                : DateUtil.toDate(milestone.getCreatedDay());
+        final LocalDate lastActive = date.equals(anchor) ? date.minusDays(1) : date;
+        if (!lastActive.isAfter(lastUpdate)) {
+            return;
+        }
+
+        final LocalDate dayBeforeDue = DateUtil.toDate(milestone.getDueDay() - 1);
+        final boolean crit = !lastActive.isBefore(dayBeforeDue);
+        if (dayBeforeDue.isAfter(lastUpdate) && !dayBeforeDue.isAfter(date)
+                && !dayBeforeDue.equals(anchor)) {
+            dueNotices.add(new TimeEvent(dayBeforeDue, order, milestone));
+        }
+        final int escalations = countEscalations(anchor, lastUpdate, date);
 
-            if (milestone.getCompletionPercentage() == 1.0) {
-                milestone.setStatus("COMPLETED");
+        for (final int ticketId : milestone.getTickets()) {
+            final Ticket ticket = getTicket(ticketId);
+            if (ticket == null) {
+                continue;
             }
-            if (milestone.getStatus().equals("COMPLETED")) {
-                return;
+            if (ticket.getStatus().name().equals("CLOSED")) {
+                continue;
             }
 
-            if (timeLeft < 0) {
-                milestone.setDaysUntilDue(0);
-                milestone.setOverdueBy(-timeLeft + 1);
+            if (crit) {
+                ticket.setBusinessPriority(BusinessPriority.CRITICAL);
             } else {
-                milestone.setDaysUntilDue(timeLeft + 1);
-                milestone.setOverdueBy(0);
+                ticket.upPriority(escalations);
             }
+            deassignIfUnqualified(ticket);
+        }
+    }
 
+    /**
+     * Counts the escalation days in a window. A day escalates when it is a
+     * positive multiple of the escalation interval away from the anchor.
+     *
+     * @param anchor The milestone's creation or unlock date
+     * @param from   The last day already processed (excluded)
+     * @param to     The last day of the window (included)
+     * @return The number of escalations in the window
+     */
+    private static int countEscalations(final LocalDate anchor, final LocalDate from,
+            final LocalDate to) {
+        final long toOffset = ChronoUnit.DAYS.between(anchor, to);
+        final long fromOffset = ChronoUnit.DAYS.between(anchor, from);
+        long count = Math.floorDiv(toOffset, UP_PRIORITY_INTERVAL)
+                - Math.floorDiv(fromOffset, UP_PRIORITY_INTERVAL);
+        if (fromOffset < 0 && toOffset >= 0) {
+            count--;
+        }
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Performs a daily update on the database.
+     * This is the day-by-day reference for what {@link #update} computes.
+     *
+     * @param date The date for the update
+     */
+    public void miniUpdate(final LocalDate date) {
+        milestones.forEach(milestone -> {
+            if (!refreshMilestoneStatus(milestone, date)) {
+                return;
+            }
             if (date.equals(lastUpdate)) {
                 return;
             }
+            advanceMilestone(milestone, date);
+        });
+    }
 
-            int timeSinceCreation;
-            if (!milestone.isBlocked()) {
-                if (milestone.getUnlockedDate() != null) {
-                    timeSinceCreation = Math
-                            .abs((int) ChronoUnit.DAYS.between((milestone.getUnlockedDate()),
-                                    date));
-                } else {
-                    timeSinceCreation = Math
-                            .abs((int) ChronoUnit.DAYS
-                                    .between((LocalDate.parse(milestone.getCreatedAt())),
-                                            date));
-                }
+    /**
+     * Marks a finished milestone as completed and recomputes its due counters.
+     *
+     * @param milestone The milestone to refresh
+     * @param date      The current date
+     * @return false if the milestone is completed, true otherwise
+     */
+    private boolean refreshMilestoneStatus(final Milestone milestone, final LocalDate date) {
+        if (milestone.getCompletionPercentage() == 1.0) {
+            milestone.setStatus("COMPLETED");
+        }
+        if (milestone.getStatus().equals("COMPLETED")) {
+            return false;
+        }
+
+        final int timeLeft = milestone.getDueDay() - DateUtil.toDay(date);
+        if (timeLeft < 0) {
+            milestone.setDaysUntilDue(0);
+            milestone.setOverdueBy(-timeLeft + 1);
+        } else {
+            milestone.setDaysUntilDue(timeLeft + 1);
+            milestone.setOverdueBy(0);
+        }
+        return true;
+    }
+
+    /**
+     * Applies one day of escalation to the tickets of a milestone.
+     * Raises priorities, forces CRITICAL near the due date, sends the due
+     * tomorrow notification and deassigns developers who can no longer
+     * handle their ticket.
+     *
+     * @param milestone The milestone to advance
+     * @param date      The day being processed
+     */
+    private void advanceMilestone(final Milestone milestone, final LocalDate date) {
+        final int today = DateUtil.toDay(date);
+        final int timeLeft = milestone.getDueDay() - today;
+
+        int timeSinceCreation;
+        if (!milestone.isBlocked()) {
+            if (milestone.getUnlockedDate() != null) {
+                timeSinceCreation = Math
+                        .abs(today - DateUtil.toDay(milestone.getUnlockedDate()));
             } else {
-                timeSinceCreation = 0;
+                timeSinceCreation = Math.abs(today - milestone.getCreatedDay());
             }
+        } else {
+            timeSinceCreation = 0;
+        }
 
-            if ((timeSinceCreation != 0) && !milestone.isBlocked()) {
-                boolean crit = false;
-                if (timeLeft <= 1) {
-                    crit = true;
-                    if (timeLeft == 1) {
-                        milestone.notifyDueTomorrow();
-                    }
+        if ((timeSinceCreation != 0) && !milestone.isBlocked()) {
+            boolean crit = false;
+            if (timeLeft <= 1) {
+                crit = true;
+                if (timeLeft == 1) {
+                    milestone.notifyDueTomorrow();
+                }
+            }
+            for (final int ticketId : milestone.getTickets()) {
+                final Ticket ticket = getTicket(ticketId);
+                if (ticket == null) {
+                    continue;
+                }
+                if (ticket.getStatus().name().equals("CLOSED")) {
+                    continue;
                 }
-                for (final int ticketId : milestone.getTickets()) {
-                    final Ticket ticket = getTicket(ticketId);
-                    if (ticket == null) {
-                        continue;
-                    }
-                    if (ticket.getStatus().name().equals("CLOSED")) {
-                        continue;
-                    }
 
-                    if (crit) {
-                        ticket.setBusinessPriority(BusinessPriority.CRITICAL);
-                    }
-                    if (timeSinceCreation % UP_PRIORITY_INTERVAL == 0) {
-                        ticket.upPriority();
-                    }
+                if (crit) {
+                    ticket.setBusinessPriority(BusinessPriority.CRITICAL);
+                }
+                if (timeSinceCreation % UP_PRIORITY_INTERVAL == 0) {
+                    ticket.upPriority();
+                }
 
-                    if (ticket.getStatus() == Status.IN_PROGRESS
-                            && ticket.getAssignedTo() != null) {
-                        User user = getUser(ticket.getAssignedTo());
-                        if (user.getRole().name().equals("DEVELOPER")) {
-                            Developer dev = (Developer) user;
-                            if (!canHandlePriority(dev, ticket.getBusinessPriority())) {
-                                dev.deassignFromTicket(ticket.getId());
-                                ticket.setAssignedTo(null);
-                                ticket.setStatus(Status.OPEN);
+                deassignIfUnqualified(ticket);
+            }
+        }
+    }
 
-                            }
-                        }
-                    }
-                }
+    /**
+     * Puts an in-progress ticket back to OPEN when its developer can no
+     * longer handle the ticket's priority.
+     *
+     * @param ticket The ticket to check
+     */
+    private void deassignIfUnqualified(final Ticket ticket) {
+        if (ticket.getStatus() != Status.IN_PROGRESS || ticket.getAssignedTo() == null) {
+            return;
+        }
+        final User user = getUser(ticket.getAssignedTo());
+        if (user.getRole().name().equals("DEVELOPER")) {
+            final Developer dev = (Developer) user;
+            if (!canHandlePriority(dev, ticket.getBusinessPriority())) {
+                dev.deassignFromTicket(ticket.getId());
+                ticket.setAssignedTo(null);
+                ticket.setStatus(Status.OPEN);
             }
-        });
+        }
     }
 
     /**
@@ -798,7 +958,7 @@ public final class Database {
      * @return List of customer impact metrics
      */
     public List<Number> getCustomerImpact() {
-        return AnalyticsService.getCustomerImpact(this.tickets);
+        return reportEngine.customerImpact();
     }
 
     /**
@@ -807,7 +967,7 @@ public final class Database {
      * @return List of resolution efficiency metrics
      */
     public List<Number> getResolutionEfficiency() {
-        return AnalyticsService.getResolutionEfficiency(this.tickets);
+        return reportEngine.resolutionEfficiency();
     }
 
     /**
@@ -816,7 +976,7 @@ public final class Database {
      * @return List of application stability metrics
      */
     public List<Object> getAppStability() {
-        return new AnalyticsService().getAppStability();
+        return reportEngine.appStability();
     }
 
     /**
@@ -833,23 +993,66 @@ public final class Database {
         final List<String> sortedUsernames = new ArrayList<>(subordinateUsernames);
         Collections.sort(sortedUsernames);
 
-        for (final String username : sortedUsernames) {
-            final Developer dev = (Developer) getUser(username);
-            if (dev != null) {
-                final List<Object> row = new ArrayList<>();
+        final boolean parallel = performanceMode == PerformanceMode.PARALLEL
+                && sortedUsernames.size() >= parallelPerformanceMin;
+        final Stream<String> usernames = parallel
+                ? sortedUsernames.parallelStream()
+                : sortedUsernames.stream();
+
+        // The workers only read the users and the performance index, which no
+        // command changes while the report is built. The scores are stored on
+        // the developers here, on the calling thread, in report order.
+        final List<PerformanceRow> rows = usernames
+                .map(username -> performanceRow(username, command))
+                .filter(Objects::nonNull)
+                .toList();
+        for (final PerformanceRow row : rows) {
+            row.developer().recordPerformanceScore(row.metrics().get(1).doubleValue());
+            report.add(row.values());
+        }
 
-                row.add(username);
-                final List<Number> metrics = dev.updatePerformanceScore(command.time());
-                row.add(metrics.get(0).intValue());
-                row.add(MathUtil.round(metrics.get(2).doubleValue()));
-                row.add(MathUtil.round(metrics.get(1).doubleValue()));
-                row.add(dev.getSeniority().toString());
+        return report;
+    }
 
-                report.add(row);
-            }
+    /**
+     * Scores one subordinate for a performance report, without changing the
+     * developer.
+     *
+     * @param username The subordinate's username
+     * @param command  The command containing performance report details
+     * @return The scored row, or null if the user is not a developer
+     */
+    private PerformanceRow performanceRow(final String username, final CommandInput command) {
+        final Developer dev = (Developer) getUser(username);
+        if (dev == null) {
+            return null;
         }
+        return new PerformanceRow(dev, dev.computePerformanceScore(command.time()));
+    }
 
-        return report;
+    /**
+     * A subordinate's statistics for a performance report.
+     *
+     * @param developer The subordinate
+     * @param metrics   The closed ticket count, the score and the average
+     *                  resolution time
+     */
+    private record PerformanceRow(Developer developer, List<Number> metrics) {
+        /**
+         * Gets the report row.
+         *
+         * @return The username, closed tickets, average resolution time,
+         *         score and seniority
+         */
+        List<Object> values() {
+            final List<Object> row = new ArrayList<>();
+            row.add(developer.getUsername());
+            row.add(metrics.get(0).intValue());
+            row.add(MathUtil.round(metrics.get(2).doubleValue()));
+            row.add(MathUtil.round(metrics.get(1).doubleValue()));
+            row.add(developer.getSeniority().toString());
+            return row;
+        }
     }
 
     /**
@@ -858,7 +1061,7 @@ public final class Database {
      * @return List of ticket risk metrics
      */
     public List<Object> getTicketRisk() {
-        return new AnalyticsService().getTicketRisk();
+        return reportEngine.ticketRisk();
     }
 
     /**
@@ -867,22 +1070,16 @@ public final class Database {
      * @return List of all developers
      */
     public List<Developer> getAllDevelopers() {
-        final List<Developer> developers = new ArrayList<Developer>();
-        for (final User user : users) {
-            if (user.getRole().name().equals("DEVELOPER")) {
-                developers.add((Developer) user);
-            }
-        }
-        return developers;
+        return new ArrayList<>(userRegistry.getDevelopers());
     }
 
     /**
      * Gets search results based on a search command.
      *
      * @param command The command containing search criteria
-     * @return List of search results
+     * @return The search results
      */
-    public List<?> getSearchResults(final CommandInput command) {
+    public SearchResults getSearchResults(final CommandInput command) {
         return SearchService.getSearchResults(command);
     }
 
@@ -895,4 +1092,47 @@ public final class Database {
         return new ArrayList<>(tickets);
     }
 
+    /**
+     * Gets the tickets for a set of IDs, in ID order.
+     *
+     * @param ids The ticket IDs
+     * @return List of the tickets that exist
+     */
+    public List<Ticket> getTicketsByIds(final BitSet ids) {
+        final List<Ticket> result = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            final Ticket ticket = getTicket(id);
+            if (ticket != null) {
+                result.add(ticket);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the tickets of every milestone a developer is assigned to.
+     *
+     * @param username The developer's username
+     * @return A new set with the ticket IDs
+     */
+    public BitSet getMilestoneTicketIds(final String username) {
+        final BitSet ids = milestoneTicketsByDev.get(username);
+        return ids != null ? (BitSet) ids.clone() : new BitSet();
+    }
+
+    /**
+     * Keeps the secondary indexes and analytics totals in sync after a ticket changed.
+     *
+     * @param ticket      The changed ticket
+     * @param oldStatus   The status before the change
+     * @param oldPriority The priority before the change
+     */
+    private void onTicketChanged(final Ticket ticket, final Status oldStatus,
+            final BusinessPriority oldPriority) {
+        ticketBuckets.update(ticket, oldStatus, oldPriority);
+        performanceIndex.update(ticket);
+        analyticsAggregates.update(ticket);
+        reportEngine.invalidate();
+    }
+
 }
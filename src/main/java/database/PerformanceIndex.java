@@ -0,0 +1,116 @@
+package database;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import mathutils.DateUtil;
+import tickets.Ticket;
+import tickets.Ticket.BusinessPriority;
+import tickets.Ticket.Status;
+
+/**
+ * Closed-ticket statistics per developer and month of closing, kept up to
+ * date from the ticket change hook. A closed ticket counts for its
+ * assignee in the month of its solve date; the contribution is taken back
+ * when the ticket is reopened or changes while closed.
+ */
+public final class PerformanceIndex {
+    private static final MonthlyStats EMPTY = new MonthlyStats();
+
+    private final Map<String, Map<YearMonth, MonthlyStats>> byDeveloper = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * Statistics of the tickets a developer closed in one month.
+     */
+    @Getter
+    public static final class MonthlyStats {
+        private int closedTickets;
+        private int bugTickets;
+        private int featureTickets;
+        private int uiTickets;
+        private int highPriorityTickets;
+        private long totalResolutionDays;
+
+        private void apply(final Entry entry, final int sign) {
+            closedTickets += sign;
+            switch (entry.type()) {
+                case BUG -> bugTickets += sign;
+                case FEATURE_REQUEST -> featureTickets += sign;
+                case UI_FEEDBACK -> uiTickets += sign;
+                default -> { }
+            }
+            if (entry.highPriority()) {
+                highPriorityTickets += sign;
+            }
+            totalResolutionDays += sign * entry.resolutionDays();
+        }
+    }
+
+    /**
+     * What a closed ticket adds to its developer's month.
+     *
+     * @param developer      The assignee
+     * @param month          The month of the solve date
+     * @param type           The ticket type
+     * @param highPriority   Whether the priority is HIGH or CRITICAL
+     * @param resolutionDays Days from assignment to solve, both included
+     */
+    private record Entry(String developer, YearMonth month, Ticket.TicketType type,
+            boolean highPriority, long resolutionDays) {
+    }
+
+    /**
+     * Adds a ticket, or replaces its contribution after it changed.
+     *
+     * @param ticket The ticket
+     */
+    public void update(final Ticket ticket) {
+        final Entry old = entries.remove(ticket.getId());
+        if (old != null) {
+            byDeveloper.get(old.developer()).get(old.month()).apply(old, -1);
+        }
+        if (ticket.getStatus() != Status.CLOSED || ticket.getAssignedTo() == null
+                || ticket.getSolvedDay() == DateUtil.NO_DAY
+                || ticket.getAssignedDay() == DateUtil.NO_DAY) {
+            return;
+        }
+
+        final BusinessPriority priority = ticket.getBusinessPriority();
+        final Entry entry = new Entry(ticket.getAssignedTo(),
+                YearMonth.from(DateUtil.toDate(ticket.getSolvedDay())),
+                ticket.getTicketType(),
+                priority == BusinessPriority.HIGH || priority == BusinessPriority.CRITICAL,
+                ticket.getSolvedDay() - ticket.getAssignedDay() + 1);
+
+        entries.put(ticket.getId(), entry);
+        byDeveloper.computeIfAbsent(entry.developer(), k -> new HashMap<>())
+                .computeIfAbsent(entry.month(), k -> new MonthlyStats())
+                .apply(entry, 1);
+    }
+
+    /**
+     * Gets the statistics of a developer's tickets closed in a month.
+     *
+     * @param developer The developer's username
+     * @param month     The month
+     * @return The statistics; all zero if nothing was closed
+     */
+    public MonthlyStats get(final String developer, final YearMonth month) {
+        final Map<YearMonth, MonthlyStats> months = byDeveloper.get(developer);
+        if (months == null) {
+            return EMPTY;
+        }
+        return months.getOrDefault(month, EMPTY);
+    }
+
+    /**
+     * Removes every ticket.
+     */
+    public void clear() {
+        byDeveloper.clear();
+        entries.clear();
+    }
+}
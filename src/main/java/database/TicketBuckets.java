@@ -0,0 +1,137 @@
+package database;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+import tickets.Ticket;
+import tickets.Ticket.BusinessPriority;
+import tickets.Ticket.ExpertiseArea;
+import tickets.Ticket.Status;
+import tickets.Ticket.TicketType;
+
+/**
+ * Secondary indexes of ticket IDs by status, type, priority and expertise
+ * area. Each bucket is a bit set, so iterating it visits tickets in ID order,
+ * which is also the order they were reported in.
+ */
+public final class TicketBuckets {
+    private final Map<Status, BitSet> byStatus = new EnumMap<>(Status.class);
+    private final Map<TicketType, BitSet> byType = new EnumMap<>(TicketType.class);
+    private final Map<BusinessPriority, BitSet> byPriority =
+            new EnumMap<>(BusinessPriority.class);
+    private final Map<ExpertiseArea, BitSet> byArea = new EnumMap<>(ExpertiseArea.class);
+
+    /**
+     * Creates empty buckets for every enum value.
+     */
+    public TicketBuckets() {
+        clear();
+    }
+
+    /**
+     * Adds a new ticket to its buckets.
+     *
+     * @param ticket The ticket to add
+     */
+    public void add(final Ticket ticket) {
+        final int id = ticket.getId();
+        byStatus.get(ticket.getStatus()).set(id);
+        byType.get(ticket.getTicketType()).set(id);
+        byPriority.get(ticket.getBusinessPriority()).set(id);
+        if (ticket.getExpertiseArea() != null) {
+            byArea.get(ticket.getExpertiseArea()).set(id);
+        }
+    }
+
+    /**
+     * Moves a ticket between buckets after its status or priority changed.
+     *
+     * @param ticket      The changed ticket
+     * @param oldStatus   The status before the change
+     * @param oldPriority The priority before the change
+     */
+    public void update(final Ticket ticket, final Status oldStatus,
+            final BusinessPriority oldPriority) {
+        final int id = ticket.getId();
+        if (oldStatus != ticket.getStatus()) {
+            byStatus.get(oldStatus).clear(id);
+            byStatus.get(ticket.getStatus()).set(id);
+        }
+        if (oldPriority != ticket.getBusinessPriority()) {
+            byPriority.get(oldPriority).clear(id);
+            byPriority.get(ticket.getBusinessPriority()).set(id);
+        }
+    }
+
+    /**
+     * Gets the tickets with any of the given statuses.
+     *
+     * @param statuses The statuses to include
+     * @return A new set with the matching ticket IDs
+     */
+    public BitSet withStatus(final Status... statuses) {
+        final BitSet result = new BitSet();
+        for (final Status status : statuses) {
+            result.or(byStatus.get(status));
+        }
+        return result;
+    }
+
+    /**
+     * Gets every ticket.
+     *
+     * @return A new set with all ticket IDs
+     */
+    public BitSet all() {
+        return withStatus(Status.values());
+    }
+
+    /**
+     * Gets the tickets of a type.
+     *
+     * @param type The ticket type
+     * @return A new set with the matching ticket IDs
+     */
+    public BitSet ofType(final TicketType type) {
+        return (BitSet) byType.get(type).clone();
+    }
+
+    /**
+     * Gets the tickets with a business priority.
+     *
+     * @param priority The priority
+     * @return A new set with the matching ticket IDs
+     */
+    public BitSet withPriority(final BusinessPriority priority) {
+        return (BitSet) byPriority.get(priority).clone();
+    }
+
+    /**
+     * Gets the tickets that need an expertise area.
+     *
+     * @param area The expertise area
+     * @return A new set with the matching ticket IDs
+     */
+    public BitSet inArea(final ExpertiseArea area) {
+        return (BitSet) byArea.get(area).clone();
+    }
+
+    /**
+     * Removes every ticket from the buckets.
+     */
+    public void clear() {
+        for (final Status status : Status.values()) {
+            byStatus.put(status, new BitSet());
+        }
+        for (final TicketType type : TicketType.values()) {
+            byType.put(type, new BitSet());
+        }
+        for (final BusinessPriority priority : BusinessPriority.values()) {
+            byPriority.put(priority, new BitSet());
+        }
+        for (final ExpertiseArea area : ExpertiseArea.values()) {
+            byArea.put(area, new BitSet());
+        }
+    }
+}
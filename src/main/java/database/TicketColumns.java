@@ -0,0 +1,158 @@
+package database;
+
+import java.util.Arrays;
+
+import mathutils.DateUtil;
+import tickets.Ticket;
+import tickets.Ticket.Status;
+
+/**
+ * Struct-of-arrays copy of the ticket fields the analytics reports read,
+ * addressed by ticket ID like {@link TicketStore}. Enums are stored as
+ * their ordinals and the scores as computed when the ticket last changed,
+ * so a scan walks primitive arrays only. The analytics totals are built
+ * from these rows and write them on every ticket change.
+ *
+ * <p>Rows without a ticket have status {@link #NO_TICKET}; scores that
+ * can't be computed are NaN.</p>
+ */
+public final class TicketColumns {
+    /** Status of a row that holds no ticket. */
+    public static final byte NO_TICKET = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size;
+    private byte[] status = new byte[INITIAL_CAPACITY];
+    private byte[] type = new byte[INITIAL_CAPACITY];
+    private byte[] priority = new byte[INITIAL_CAPACITY];
+    private double[] impact = new double[INITIAL_CAPACITY];
+    private double[] risk = new double[INITIAL_CAPACITY];
+    private double[] efficiency = new double[INITIAL_CAPACITY];
+
+    /**
+     * Creates empty columns.
+     */
+    public TicketColumns() {
+        Arrays.fill(status, NO_TICKET);
+    }
+
+    /**
+     * Writes the current values of a ticket into its row.
+     *
+     * @param ticket The new or changed ticket
+     */
+    public void update(final Ticket ticket) {
+        final int id = ticket.getId();
+        ensureCapacity(id + 1);
+        size = Math.max(size, id + 1);
+
+        final Status ticketStatus = ticket.getStatus();
+        status[id] = (byte) ticketStatus.ordinal();
+        type[id] = (byte) ticket.getTicketType().ordinal();
+        priority[id] = (byte) ticket.getBusinessPriority().ordinal();
+
+        final boolean active = ticketStatus == Status.OPEN
+                || ticketStatus == Status.IN_PROGRESS;
+        impact[id] = active ? ticket.getImpact() : Double.NaN;
+        risk[id] = active ? ticket.getRisk() : Double.NaN;
+        efficiency[id] = !active && ticket.getSolvedDay() != DateUtil.NO_DAY
+                && ticket.getAssignedDay() != DateUtil.NO_DAY ? ticket.getEfficiency() : Double.NaN;
+    }
+
+    /**
+     * Removes every ticket.
+     */
+    public void clear() {
+        size = 0;
+        Arrays.fill(status, NO_TICKET);
+    }
+
+    /**
+     * Checks whether a row holds a ticket.
+     *
+     * @param id The ticket ID
+     * @return Whether the ticket has a row
+     */
+    public boolean contains(final int id) {
+        return id < size && status[id] != NO_TICKET;
+    }
+
+    /**
+     * Gets the number of rows, one past the highest ticket ID.
+     *
+     * @return The row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the status ordinals, or {@link #NO_TICKET} for empty rows.
+     *
+     * @return The column, valid up to {@link #size()}
+     */
+    public byte[] status() {
+        return status;
+    }
+
+    /**
+     * Gets the ticket type ordinals.
+     *
+     * @return The column, valid up to {@link #size()}
+     */
+    public byte[] type() {
+        return type;
+    }
+
+    /**
+     * Gets the business priority ordinals.
+     *
+     * @return The column, valid up to {@link #size()}
+     */
+    public byte[] priority() {
+        return priority;
+    }
+
+    /**
+     * Gets the impact scores of the OPEN and IN_PROGRESS tickets.
+     *
+     * @return The column, valid up to {@link #size()}
+     */
+    public double[] impact() {
+        return impact;
+    }
+
+    /**
+     * Gets the risk scores of the OPEN and IN_PROGRESS tickets.
+     *
+     * @return The column, valid up to {@link #size()}
+     */
+    public double[] risk() {
+        return risk;
+    }
+
+    /**
+     * Gets the efficiency scores of the RESOLVED and CLOSED tickets.
+     *
+     * @return The column, valid up to {@link #size()}
+     */
+    public double[] efficiency() {
+        return efficiency;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= status.length) {
+            return;
+        }
+        final int grown = Math.max(capacity, status.length * 2);
+        final int old = status.length;
+        status = Arrays.copyOf(status, grown);
+        Arrays.fill(status, old, grown, NO_TICKET);
+        type = Arrays.copyOf(type, grown);
+        priority = Arrays.copyOf(priority, grown);
+        impact = Arrays.copyOf(impact, grown);
+        risk = Arrays.copyOf(risk, grown);
+        efficiency = Arrays.copyOf(efficiency, grown);
+    }
+}
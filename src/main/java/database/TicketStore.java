@@ -0,0 +1,85 @@
+package database;
+
+import java.util.Arrays;
+
+import tickets.Ticket;
+
+/**
+ * Ticket storage addressed directly by ticket ID.
+ * Ticket IDs are handed out sequentially, so a growable array gives constant
+ * time lookups. Slots without a ticket hold null and are reported as missing.
+ */
+public final class TicketStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Ticket[] slots = new Ticket[INITIAL_CAPACITY];
+    private int count;
+
+    /**
+     * Stores a ticket in the slot matching its ID, growing the store if needed.
+     *
+     * @param ticket The ticket to store
+     */
+    public void put(final Ticket ticket) {
+        final int id = ticket.getId();
+        if (id >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(id + 1, slots.length * 2));
+        }
+        if (slots[id] == null) {
+            count++;
+        }
+        slots[id] = ticket;
+    }
+
+    /**
+     * Gets the ticket stored under an ID.
+     *
+     * @param id The ticket ID
+     * @return The ticket, or null if the ID is missing
+     */
+    public Ticket get(final int id) {
+        if (id < 0 || id >= slots.length) {
+            return null;
+        }
+        return slots[id];
+    }
+
+    /**
+     * Checks whether a ticket is stored under an ID.
+     *
+     * @param id The ticket ID
+     * @return true if a ticket exists for the ID, false otherwise
+     */
+    public boolean contains(final int id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Marks an ID as missing.
+     *
+     * @param id The ticket ID to clear
+     */
+    public void remove(final int id) {
+        if (contains(id)) {
+            slots[id] = null;
+            count--;
+        }
+    }
+
+    /**
+     * Gets the number of stored tickets.
+     *
+     * @return The ticket count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Removes every ticket from the store.
+     */
+    public void clear() {
+        slots = new Ticket[INITIAL_CAPACITY];
+        count = 0;
+    }
+}
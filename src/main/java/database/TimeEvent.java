@@ -0,0 +1,27 @@
+package database;
+
+import java.time.LocalDate;
+
+import milestones.Milestone;
+
+/**
+ * Due tomorrow notice of a milestone, scheduled on the day before it is due.
+ * Events are ordered by day, then by the milestone's position in creation
+ * order, which is the order the day-by-day update visits milestones in.
+ *
+ * @param day       The day the event fires on
+ * @param order     The milestone's index in creation order
+ * @param milestone The milestone the event belongs to
+ */
+public record TimeEvent(LocalDate day, int order, Milestone milestone)
+        implements Comparable<TimeEvent> {
+
+    @Override
+    public int compareTo(final TimeEvent other) {
+        final int byDay = day.compareTo(other.day);
+        if (byDay != 0) {
+            return byDay;
+        }
+        return Integer.compare(order, other.order);
+    }
+}
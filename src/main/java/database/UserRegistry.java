@@ -0,0 +1,72 @@
+package database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import users.Developer;
+import users.User;
+
+/**
+ * Lookup structure for users, built once when the users are loaded.
+ * Holds a username index and the already typed list of developers.
+ */
+public final class UserRegistry {
+    private final Map<String, User> byUsername = new HashMap<>();
+    private final List<Developer> developers = new ArrayList<>();
+
+    /**
+     * Rebuilds the registry from a list of users.
+     * When a username appears twice, the first user wins.
+     *
+     * @param users The users to index
+     */
+    public void rebuild(final List<User> users) {
+        clear();
+        for (final User user : users) {
+            byUsername.putIfAbsent(user.getUsername(), user);
+            if (user.getRole() == User.Role.DEVELOPER) {
+                developers.add((Developer) user);
+            }
+        }
+    }
+
+    /**
+     * Gets a user by username.
+     *
+     * @param username The username to look up
+     * @return The user, or null if not found
+     */
+    public User get(final String username) {
+        return byUsername.get(username);
+    }
+
+    /**
+     * Checks if a username is registered.
+     *
+     * @param username The username to check
+     * @return true if the user exists, false otherwise
+     */
+    public boolean contains(final String username) {
+        return byUsername.containsKey(username);
+    }
+
+    /**
+     * Gets all developers, in input order.
+     *
+     * @return Read-only list of developers
+     */
+    public List<Developer> getDevelopers() {
+        return Collections.unmodifiableList(developers);
+    }
+
+    /**
+     * Removes every user from the registry.
+     */
+    public void clear() {
+        byUsername.clear();
+        developers.clear();
+    }
+}
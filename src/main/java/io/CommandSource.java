@@ -0,0 +1,75 @@
+package io;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads commands one at a time from the JSON array in the input file.
+ * Only the command being processed is held in memory, and the first
+ * commands run before the rest of the file is parsed.
+ */
+public final class CommandSource implements Closeable {
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private CommandInput next;
+    private boolean finished;
+
+    /**
+     * Creates a command source over a parser.
+     *
+     * @param parser The parser, positioned before the commands array
+     * @param reader The reader used to bind each command
+     * @throws IOException If the input does not start with an array
+     */
+    public CommandSource(final JsonParser parser, final ObjectReader reader)
+            throws IOException {
+        this.parser = parser;
+        this.reader = reader;
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IOException("expected an array of commands");
+        }
+    }
+
+    /**
+     * Gets the next command without consuming it.
+     *
+     * @return The next command, or null if there are no commands left
+     * @throws IOException If the command can't be parsed
+     */
+    public CommandInput peek() throws IOException {
+        if (next == null && !finished) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                next = reader.readValue(parser);
+            } else {
+                finished = true;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Checks if there are commands left.
+     *
+     * @return true if another command can be read
+     * @throws IOException If the command can't be parsed
+     */
+    public boolean hasNext() throws IOException {
+        return peek() != null;
+    }
+
+    /**
+     * Consumes the command returned by the last {@link #peek()}.
+     */
+    public void advance() {
+        next = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
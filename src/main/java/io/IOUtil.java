@@ -1,15 +1,15 @@
 package io;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import database.Database;
+import mathutils.DateUtil;
 import milestones.Milestone;
 import users.Developer;
 import users.User;
+import search.SearchResults;
 import tickets.Ticket;
-import java.util.Arrays;
 import java.util.List;
 import java.io.File;
 import java.io.IOException;
@@ -24,9 +24,7 @@ import java.util.stream.Collectors;
  */
 public final class IOUtil {
     private static final ObjectMapper MAPPER = new ObjectMapper();
-    private static final ObjectWriter WRITER = new ObjectMapper().writer()
-            .withDefaultPrettyPrinter();
-    private static List<ObjectNode> outputs = new ArrayList<>();
+    private static OutputSink sink;
     private static String inputPath;
     private static String outputPath;
     private static Database db = Database.getInstance();
@@ -74,10 +72,56 @@ public final class IOUtil {
     }
 
     /**
-     * Clears all stored output data.
+     * Closes the output file of a previous run if it is still open.
      */
     public static void clearIO() {
-        outputs.clear();
+        writeOutput();
+    }
+
+    /**
+     * Opens the output file. Responses are written to it as they are produced.
+     *
+     * @throws IOException If the file can't be opened
+     */
+    public static void openOutput() throws IOException {
+        final File outputFile = new File(outputPath);
+        outputFile.getParentFile().mkdirs();
+        sink = new OutputSink(MAPPER, outputFile);
+    }
+
+    /**
+     * Writes a response to the output file without building a tree first.
+     *
+     * @param command The command the response belongs to
+     * @param body    Writes the fields after the command header
+     * @throws IllegalStateException If the output file is not open
+     */
+    private static void emit(final CommandInput command, final OutputSink.Body body) {
+        if (sink == null) {
+            throw new IllegalStateException("output file is not open");
+        }
+        try {
+            sink.write(command, body);
+        } catch (final IOException e) {
+            System.out.println("error writing to output file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a response to the output file.
+     *
+     * @param node The response to write
+     * @throws IllegalStateException If the output file is not open
+     */
+    private static void emit(final ObjectNode node) {
+        if (sink == null) {
+            throw new IllegalStateException("output file is not open");
+        }
+        try {
+            sink.write(node);
+        } catch (final IOException e) {
+            System.out.println("error writing to output file: " + e.getMessage());
+        }
     }
 
     /**
@@ -95,16 +139,16 @@ public final class IOUtil {
     }
 
     /**
-     * Reads commands from the input JSON file.
+     * Opens the input JSON file as a stream of commands.
      *
-     * @return List of CommandInput objects
-     * @throws IOException If there's an error reading the file
+     * @return CommandSource reading the commands in order
+     * @throws IOException If there's an error opening the file
      */
-    public static List<CommandInput> readCommands() throws IOException {
+    public static CommandSource openCommands() throws IOException {
         final File inputFile = new File(inputPath);
 
-        return MAPPER.readerForListOf(CommandInput.class)
-                .readValue(inputFile);
+        return new CommandSource(MAPPER.createParser(inputFile),
+                MAPPER.readerFor(CommandInput.class));
     }
 
     /**
@@ -126,65 +170,37 @@ public final class IOUtil {
      * @param command The search command
      * @param results The search results list
      */
-    public static void outputSearch(final CommandInput command, final List<?> results) {
+    public static void outputSearch(final CommandInput command, final SearchResults results) {
         final User user = db.getUser(command.username());
 
         if (command.filters() == null) {
             System.out.println("ERROR: filters is null for search command!");
             return;
         }
-        final ObjectNode commandNode = createOutputHeader(command);
-        commandNode.put("searchType", command.filters().searchType());
-
-        final ArrayNode resultsArray = MAPPER.createArrayNode();
-
-        if ("DEVELOPER".equals(command.filters().searchType())) {
-            for (final Object obj : results) {
-                final Developer dev = (Developer) obj;
-                final ObjectNode devNode = MAPPER.createObjectNode();
-                devNode.put("username", dev.getUsername());
-                devNode.put("expertiseArea", dev.getExpertiseArea().toString());
-                devNode.put("seniority", dev.getSeniority().toString());
-                devNode.put("performanceScore", dev.getPerformanceScore());
-                devNode.put("hireDate", dev.getHireDate().toString());
-                resultsArray.add(devNode);
-            }
-        } else {
-            final boolean hasKeywordsFilter = command.filters().keywords() != null
-                    && command.filters().keywords().length > 0;
-
-            for (final Object obj : results) {
-                final Ticket ticket = (Ticket) obj;
-                final ObjectNode ticketNode = MAPPER.createObjectNode();
-                ticketNode.put("id", ticket.getId());
-                ticketNode.put("type", ticket.getType().toString());
-                ticketNode.put("title", ticket.getTitle());
-                ticketNode.put("businessPriority", ticket.getBusinessPriority().toString());
-                ticketNode.put("status", ticket.getStatus().toString());
-                ticketNode.put("createdAt", ticket.getCreatedAt());
-                ticketNode.put("solvedAt", ticket.getSolvedAt() != null
-                        ? ticket.getSolvedAt()
-                        : "");
-                ticketNode.put("reportedBy", ticket.getReportedBy());
-
-                if ((hasKeywordsFilter
-                        && ticket.getMatchingWords() != null
-                        && !ticket.getMatchingWords().isEmpty())
-                        || user.getRole().name().equals("MANAGER")) {
-
-                    final ArrayNode matchingWordsArray = MAPPER.createArrayNode();
-                    for (final String word : ticket.getMatchingWords()) {
-                        matchingWordsArray.add(word);
-                    }
-                    ticketNode.set("matchingWords", matchingWordsArray);
-                }
 
-                resultsArray.add(ticketNode);
+        emit(command, gen -> {
+            gen.writeStringField("searchType", command.filters().searchType());
+            gen.writeArrayFieldStart("results");
+            if ("DEVELOPER".equals(command.filters().searchType())) {
+                for (final Object obj : results.items()) {
+                    JsonSerializers.writeDeveloper(gen, (Developer) obj);
+                }
+            } else {
+                final boolean hasKeywordsFilter = command.filters().keywords() != null
+                        && command.filters().keywords().length > 0;
+
+                for (final Object obj : results.items()) {
+                    final Ticket ticket = (Ticket) obj;
+                    final List<String> matchingWords = results.matchingWordsOf(ticket.getId());
+                    final boolean withMatchingWords = (hasKeywordsFilter
+                            && !matchingWords.isEmpty())
+                            || user.getRole().name().equals("MANAGER");
+                    JsonSerializers.writeSearchTicket(gen, ticket,
+                            withMatchingWords ? matchingWords : null);
+                }
             }
-        }
-
-        commandNode.set("results", resultsArray);
-        outputs.add(commandNode);
+            gen.writeEndArray();
+        });
     }
 
     /**
@@ -213,7 +229,7 @@ public final class IOUtil {
         }
 
         commandNode.set("report", reportArray);
-        outputs.add(commandNode);
+        emit(commandNode);
     }
 
     /**
@@ -232,7 +248,7 @@ public final class IOUtil {
         }
 
         commandNode.set("notifications", notificationsArray);
-        outputs.add(commandNode);
+        emit(commandNode);
     }
 
     /**
@@ -242,45 +258,13 @@ public final class IOUtil {
      * @param tickets List of assigned tickets
      */
     public static void viewAssignedTickets(final CommandInput command, final List<Ticket> tickets) {
-        final ObjectNode commandNode = createOutputHeader(command);
-
-        final ArrayNode ticketsArray = MAPPER.createArrayNode();
-
-        for (final Ticket ticket : tickets) {
-            final ObjectNode ticketNode = MAPPER.createObjectNode();
-
-            ticketNode.put("id", ticket.getId());
-            ticketNode.put("type", ticket.getType());
-            ticketNode.put("title", ticket.getTitle());
-            ticketNode.put("businessPriority", ticket.getBusinessPriority().toString());
-            ticketNode.put("status", ticket.getStatus().toString());
-
-            ticketNode.put("createdAt", ticket.getCreatedAt() != null
-                    ? ticket.getCreatedAt()
-                    : "");
-            ticketNode.put("assignedAt", ticket.getAssignedAt() != null
-                    ? ticket.getAssignedAt()
-                    : "");
-            ticketNode.put("reportedBy", ticket.getReportedBy() != null
-                    ? ticket.getReportedBy()
-                    : "");
-
-            final ArrayNode commentsArray = MAPPER.createArrayNode();
-            ticket.getComments().stream()
-                    .forEach(comment -> {
-                        final ObjectNode commentNode = MAPPER.createObjectNode();
-                        commentNode.put("author", comment.getAuthor());
-                        commentNode.put("content", comment.getContent());
-                        commentNode.put("createdAt", comment.getCreatedAt());
-                        commentsArray.add(commentNode);
-                    });
-            ticketNode.set("comments", commentsArray);
-            ticketsArray.add(ticketNode);
-        }
-
-        commandNode.set("assignedTickets", ticketsArray);
-        outputs.add(commandNode);
-
+        emit(command, gen -> {
+            gen.writeArrayFieldStart("assignedTickets");
+            for (final Ticket ticket : tickets) {
+                JsonSerializers.writeAssignedTicket(gen, ticket);
+            }
+            gen.writeEndArray();
+        });
     }
 
     /**
@@ -332,7 +316,7 @@ public final class IOUtil {
         reportNode.put("appStability", (String) reportData.get(REPORT_IDX_STABILITY_LABEL));
 
         commandNode.set("report", reportNode);
-        outputs.add(commandNode);
+        emit(commandNode);
     }
 
     /**
@@ -371,7 +355,7 @@ public final class IOUtil {
         reportNode.set("riskByType", riskByTypeNode);
 
         commandNode.set("report", reportNode);
-        outputs.add(commandNode);
+        emit(commandNode);
     }
 
     /**
@@ -410,7 +394,7 @@ public final class IOUtil {
         reportNode.set("efficiencyByType", customerImpactByTypeNode);
 
         commandNode.set("report", reportNode);
-        outputs.add(commandNode);
+        emit(commandNode);
     }
 
     /**
@@ -449,7 +433,7 @@ public final class IOUtil {
         reportNode.set("customerImpactByType", customerImpactByTypeNode);
 
         commandNode.set("report", reportNode);
-        outputs.add(commandNode);
+        emit(commandNode);
     }
 
     /**
@@ -459,45 +443,13 @@ public final class IOUtil {
      * @param tickets List of tickets to display
      */
     public static void viewTickets(final CommandInput command, final List<Ticket> tickets) {
-        final ObjectNode commandNode = createOutputHeader(command);
-
-        final ArrayNode ticketsArray = MAPPER.createArrayNode();
-
-        for (final Ticket ticket : tickets) {
-            final ObjectNode ticketNode = MAPPER.createObjectNode();
-
-            ticketNode.put("id", ticket.getId());
-            ticketNode.put("type", ticket.getType());
-            ticketNode.put("title", ticket.getTitle());
-            ticketNode.put("businessPriority", ticket.getBusinessPriority().toString());
-            ticketNode.put("status", ticket.getStatus().toString());
-
-            ticketNode.put("createdAt", ticket.getCreatedAt() != null ? ticket.getCreatedAt() : "");
-            ticketNode.put("assignedAt", ticket.getAssignedAt() != null
-                    ? ticket.getAssignedAt()
-                    : "");
-            ticketNode.put("solvedAt", ticket.getSolvedAt() != null ? ticket.getSolvedAt() : "");
-            ticketNode.put("assignedTo", ticket.getAssignedTo() != null
-                    ? ticket.getAssignedTo()
-                    : "");
-            ticketNode.put("reportedBy", ticket.getReportedBy() != null
-                    ? ticket.getReportedBy()
-                    : "");
-
-            final ArrayNode commentsArray = MAPPER.createArrayNode();
-            ticket.getComments().stream()
-                    .forEach(comment -> {
-                        final ObjectNode commentNode = MAPPER.createObjectNode();
-                        commentNode.put("author", comment.getAuthor());
-                        commentNode.put("content", comment.getContent());
-                        commentNode.put("createdAt", comment.getCreatedAt());
-                        commentsArray.add(commentNode);
-                    });
-            ticketNode.set("comments", commentsArray);
-            ticketsArray.add(ticketNode);
-        }
-        commandNode.set("tickets", ticketsArray);
-        outputs.add(commandNode);
+        emit(command, gen -> {
+            gen.writeArrayFieldStart("tickets");
+            for (final Ticket ticket : tickets) {
+                JsonSerializers.writeTicket(gen, ticket);
+            }
+            gen.writeEndArray();
+        });
     }
 
     /**
@@ -514,73 +466,37 @@ public final class IOUtil {
                         .thenComparing(Milestone::getName))
                 .collect(Collectors.toList());
 
-        final ObjectNode commandNode = createOutputHeader(command);
-
-        final ArrayNode milestonesArray = MAPPER.createArrayNode();
-
-        for (final Milestone milestone : sortedMilestones) {
-            final ObjectNode ticketNode = MAPPER.createObjectNode();
-
-            ticketNode.put("name", milestone.getName());
-            final ArrayNode blockingFor = MAPPER.createArrayNode();
-            Arrays.stream(milestone.getBlockingFor())
-                    .forEach(blockingFor::add);
-            ticketNode.set("blockingFor", blockingFor);
-            ticketNode.put("dueDate", milestone.getDueDate());
-            ticketNode.put("createdAt", milestone.getCreatedAt());
-            final ArrayNode tickets = MAPPER.createArrayNode();
-            Arrays.stream(milestone.getTickets())
-                    .forEach(tickets::add);
-            ticketNode.set("tickets", tickets);
-            final ArrayNode assignedDevs = MAPPER.createArrayNode();
-            Arrays.stream(milestone.getAssignedDevs())
-                    .forEach(assignedDevs::add);
-            ticketNode.set("assignedDevs", assignedDevs);
-
-            ticketNode.put("createdBy", milestone.getOwner());
-            ticketNode.put("status", milestone.getStatus());
-            ticketNode.put("isBlocked", milestone.isBlocked());
-            ticketNode.put("daysUntilDue", milestone.getDaysUntilDue());
-
-            ticketNode.put("overdueBy", milestone.getOverdueBy());
-            final ArrayNode openTickets = MAPPER.createArrayNode();
-            milestone.getOpenTickets().stream()
-                    .sorted()
-                    .forEach(openTickets::add);
-            ticketNode.set("openTickets", openTickets);
-            final ArrayNode closedTickets = MAPPER.createArrayNode();
-            milestone.getClosedTickets().stream()
-                    .sorted()
-                    .forEach(closedTickets::add);
-            ticketNode.set("closedTickets", closedTickets);
-            ticketNode.put("completionPercentage", milestone.getCompletionPercentage());
-
-            final ArrayNode repartition = Arrays.stream(milestone.getRepartitions())
-                    .filter(rep -> rep != null)
-                    .filter(rep -> rep.getDev() != null)
-                    .map(rep -> {
-                        ObjectNode devNode = MAPPER.createObjectNode();
-                        devNode.put("developer", rep.getDev());
-
-                        ArrayNode assignedArray = MAPPER.createArrayNode();
-
-                        if (rep.getAssignedTickets() != null) {
-                            rep.getAssignedTickets().stream().sorted().forEach(assignedArray::add);
-                        }
+        emit(command, gen -> {
+            gen.writeArrayFieldStart("milestones");
+            for (final Milestone milestone : sortedMilestones) {
+                JsonSerializers.writeMilestone(gen, milestone);
+            }
+            gen.writeEndArray();
+        });
+    }
 
-                        devNode.set("assignedTickets", assignedArray);
-                        return devNode;
-                    })
-                    .collect(
-                            () -> MAPPER.createArrayNode(),
-                            ArrayNode::add,
-                            ArrayNode::addAll);
+    /**
+     * Outputs the completion forecasts of the milestones visible to a user.
+     *
+     * @param command            The view milestone forecasts command
+     * @param unsortedMilestones List of milestones to forecast
+     */
+    public static void viewMilestoneForecasts(final CommandInput command,
+            final List<Milestone> unsortedMilestones) {
+        final List<Milestone> sortedMilestones = unsortedMilestones.stream()
+                .sorted(Comparator
+                        .comparing(Milestone::getDueDate)
+                        .thenComparing(Milestone::getName))
+                .collect(Collectors.toList());
 
-            ticketNode.set("repartition", repartition);
-            milestonesArray.add(ticketNode);
-        }
-        commandNode.set("milestones", milestonesArray);
-        outputs.add(commandNode);
+        emit(command, gen -> {
+            gen.writeArrayFieldStart("forecasts");
+            for (final Milestone milestone : sortedMilestones) {
+                JsonSerializers.writeMilestoneForecast(gen, milestone,
+                        DateUtil.toDay(command.time()));
+            }
+            gen.writeEndArray();
+        });
     }
 
     /**
@@ -591,125 +507,56 @@ public final class IOUtil {
      */
     public static void viewTicketHistory(final CommandInput command,
             final List<Ticket> userTickets) {
-        final ObjectNode commandNode = createOutputHeader(command);
-
-        final ArrayNode ticketHistoryArray = MAPPER.createArrayNode();
-
         if (userTickets == null) {
-            commandNode.put("error",
+            emit(command, gen -> gen.writeStringField("error",
                     "The user does not have permission to execute this command: "
-                            + "required role DEVELOPER, MANAGER; user role REPORTER.");
-        } else {
-            for (final Ticket ticket : userTickets) {
-                final ObjectNode ticketNode = MAPPER.createObjectNode();
-                ticketNode.put("id", ticket.getId());
-                ticketNode.put("title", ticket.getTitle());
-                ticketNode.put("status", ticket.getStatus().toString());
+                            + "required role DEVELOPER, MANAGER; user role REPORTER."));
+            return;
+        }
 
-                final ArrayNode actionsArray = MAPPER.createArrayNode();
+        final User user = db.getUser(command.username());
+        emit(command, gen -> {
+            gen.writeArrayFieldStart("ticketHistory");
+            for (final Ticket ticket : userTickets) {
+                gen.writeStartObject();
+                gen.writeNumberField("id", ticket.getId());
+                gen.writeStringField("title", ticket.getTitle());
+                gen.writeStringField("status", ticket.getStatus().toString());
 
+                gen.writeArrayFieldStart("actions");
                 if (ticket.getTicketHistory() != null
                         && ticket.getTicketHistory().getActions() != null) {
-                    boolean stopOutput = false;
-
                     for (final Ticket.Action action : ticket.getTicketHistory().getActions()) {
-                        if (stopOutput) {
-                            break;
-                        }
+                        JsonSerializers.writeAction(gen, action);
 
                         if ("DE-ASSIGNED".equals(action.getAction())
                                 && command.username().equals(action.getBy())) {
-                            final ObjectNode actionNode = MAPPER.createObjectNode();
-
-                            if (action.getMilestone() != null && !action.getMilestone().isEmpty()) {
-                                actionNode.put("milestone", action.getMilestone());
-                            }
-
-                            if (action.getFrom() != null) {
-                                actionNode.put("from", action.getFrom().toString());
-                            }
-
-                            if (action.getTo() != null) {
-                                actionNode.put("to", action.getTo().toString());
-                            }
-
-                            if (action.getBy() != null && !action.getBy().isEmpty()) {
-                                actionNode.put("by", action.getBy());
-                            }
-
-                            actionNode.put("timestamp", action.getTimestamp());
-                            actionNode.put("action", action.getAction());
-                            actionsArray.add(actionNode);
-
-                            stopOutput = true;
-                            continue;
-                        }
-
-                        final ObjectNode actionNode = MAPPER.createObjectNode();
-
-                        if (action.getMilestone() != null && !action.getMilestone().isEmpty()) {
-                            actionNode.put("milestone", action.getMilestone());
-                        }
-
-                        if (action.getFrom() != null) {
-                            actionNode.put("from", action.getFrom().toString());
-                        }
-
-                        if (action.getTo() != null) {
-                            actionNode.put("to", action.getTo().toString());
-                        }
-
-                        if (action.getBy() != null && !action.getBy().isEmpty()) {
-                            actionNode.put("by", action.getBy());
+                            break;
                         }
-
-                        actionNode.put("timestamp", action.getTimestamp());
-                        actionNode.put("action", action.getAction());
-                        actionsArray.add(actionNode);
                     }
                 }
-
-                ticketNode.set("actions", actionsArray);
-
-                final ArrayNode commentsArray = MAPPER.createArrayNode();
-
-                if (ticket.getComments() != null) {
-                    final User user = db.getUser(command.username());
-
-                    if (user.getRole().name().equals("MANAGER")) {
-                        for (final Ticket.Comment comment : ticket.getComments()) {
-                            final ObjectNode commentNode = MAPPER.createObjectNode();
-                            commentNode.put("author", comment.getAuthor());
-                            commentNode.put("content", comment.getContent());
-                            commentNode.put("createdAt", comment.getCreatedAt());
-                            commentsArray.add(commentNode);
-                        }
-                    } else if (user.getRole().name().equals("DEVELOPER")) {
-                        final Developer currentDev = (Developer) user;
-                        final int allowedCommentCount = currentDev
-                                .getCommentCountForTicket(ticket.getId());
-                        final List<Ticket.Comment> sortedComments
-                            = new ArrayList<>(ticket.getComments());
-                        sortedComments.sort(Comparator.comparing(Ticket.Comment::getCreatedAt));
-
-                        for (int i = 0; i < Math.min(allowedCommentCount,
-                                sortedComments.size()); i++) {
-                            final Ticket.Comment comment = sortedComments.get(i);
-                            final ObjectNode commentNode = MAPPER.createObjectNode();
-                            commentNode.put("author", comment.getAuthor());
-                            commentNode.put("content", comment.getContent());
-                            commentNode.put("createdAt", comment.getCreatedAt());
-                            commentsArray.add(commentNode);
-                        }
-                    }
+                gen.writeEndArray();
+
+                if (ticket.getComments() == null) {
+                    gen.writeArrayFieldStart("comments");
+                    gen.writeEndArray();
+                } else if (user.getRole().name().equals("MANAGER")) {
+                    JsonSerializers.writeComments(gen, ticket.getComments(),
+                            ticket.getComments().size());
+                } else if (user.getRole().name().equals("DEVELOPER")) {
+                    final Developer currentDev = (Developer) user;
+                    final List<Ticket.Comment> sortedComments
+                        = new ArrayList<>(ticket.getComments());
+                    sortedComments.sort(Comparator.comparing(Ticket.Comment::getCreatedAt));
+                    JsonSerializers.writeComments(gen, sortedComments,
+                            currentDev.getCommentCountForTicket(ticket.getId()));
+                } else {
+                    JsonSerializers.writeComments(gen, ticket.getComments(), 0);
                 }
-
-                ticketNode.set("comments", commentsArray);
-                ticketHistoryArray.add(ticketNode);
+                gen.writeEndObject();
             }
-            commandNode.set("ticketHistory", ticketHistoryArray);
-        }
-        outputs.add(commandNode);
+            gen.writeEndArray();
+        });
     }
 
     /**
@@ -745,7 +592,7 @@ public final class IOUtil {
             default ->
                 error.put("error", "Unknown error type: " + errorType);
         }
-        outputs.add(error);
+        emit(error);
     }
 
     /**
@@ -775,7 +622,7 @@ public final class IOUtil {
         }
         error.put("error", message);
 
-        outputs.add(error);
+        emit(error);
     }
 
     /**
@@ -807,7 +654,7 @@ public final class IOUtil {
             }
         }
 
-        outputs.add(error);
+        emit(error);
     }
 
     /**
@@ -829,7 +676,7 @@ public final class IOUtil {
             }
         }
 
-        outputs.add(error);
+        emit(error);
     }
 
     /**
@@ -851,20 +698,23 @@ public final class IOUtil {
             default ->
                 error.put("error", "implement");
         }
-        outputs.add(error);
+        emit(error);
     }
 
     /**
-     * Writes all output data to the output JSON file.
+     * Finishes the output JSON file and closes it. Does nothing if the file
+     * is not open.
      */
     public static void writeOutput() {
+        if (sink == null) {
+            return;
+        }
         try {
-            final File outputFile = new File(outputPath);
-            outputFile.getParentFile().mkdirs();
-            WRITER.withDefaultPrettyPrinter().writeValue(outputFile, outputs);
+            sink.close();
         } catch (final IOException e) {
             System.out.println("error writing to output file: " + e.getMessage());
         }
+        sink = null;
     }
 
     /**
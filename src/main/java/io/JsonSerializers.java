@@ -0,0 +1,317 @@
+package io;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import mathutils.DateUtil;
+import mathutils.MathUtil;
+import milestones.Milestone;
+import milestones.MilestoneForecast;
+import tickets.Ticket;
+import users.Developer;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes tickets, milestones and developers straight to a JsonGenerator.
+ * The field order and value formats match the ObjectNode trees the views
+ * used to build, so the output is byte-identical without the intermediate
+ * tree.
+ */
+public final class JsonSerializers {
+    /** Tickets shown for a developer listed again in a milestone. */
+    private static final BitSet NO_TICKETS = new BitSet();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private JsonSerializers() {
+    }
+
+    /**
+     * Writes a ticket as shown by viewTickets.
+     *
+     * @param gen    The generator to write to
+     * @param ticket The ticket to write
+     * @throws IOException If writing fails
+     */
+    public static void writeTicket(final JsonGenerator gen, final Ticket ticket)
+            throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", ticket.getId());
+        gen.writeStringField("type", ticket.getType());
+        gen.writeStringField("title", ticket.getTitle());
+        gen.writeStringField("businessPriority", ticket.getBusinessPriority().toString());
+        gen.writeStringField("status", ticket.getStatus().toString());
+        gen.writeStringField("createdAt", orEmpty(ticket.getCreatedAt()));
+        gen.writeStringField("assignedAt", orEmpty(ticket.getAssignedAt()));
+        gen.writeStringField("solvedAt", orEmpty(ticket.getSolvedAt()));
+        gen.writeStringField("assignedTo", orEmpty(ticket.getAssignedTo()));
+        gen.writeStringField("reportedBy", orEmpty(ticket.getReportedBy()));
+        writeComments(gen, ticket.getComments(), ticket.getComments().size());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes a ticket as shown by viewAssignedTickets.
+     *
+     * @param gen    The generator to write to
+     * @param ticket The ticket to write
+     * @throws IOException If writing fails
+     */
+    public static void writeAssignedTicket(final JsonGenerator gen, final Ticket ticket)
+            throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", ticket.getId());
+        gen.writeStringField("type", ticket.getType());
+        gen.writeStringField("title", ticket.getTitle());
+        gen.writeStringField("businessPriority", ticket.getBusinessPriority().toString());
+        gen.writeStringField("status", ticket.getStatus().toString());
+        gen.writeStringField("createdAt", orEmpty(ticket.getCreatedAt()));
+        gen.writeStringField("assignedAt", orEmpty(ticket.getAssignedAt()));
+        gen.writeStringField("reportedBy", orEmpty(ticket.getReportedBy()));
+        writeComments(gen, ticket.getComments(), ticket.getComments().size());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes a ticket as shown in ticket search results.
+     *
+     * @param gen           The generator to write to
+     * @param ticket        The ticket to write
+     * @param matchingWords The keywords found in the ticket, or null to leave
+     *                      the field out
+     * @throws IOException If writing fails
+     */
+    public static void writeSearchTicket(final JsonGenerator gen, final Ticket ticket,
+            final List<String> matchingWords) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", ticket.getId());
+        gen.writeStringField("type", ticket.getType());
+        gen.writeStringField("title", ticket.getTitle());
+        gen.writeStringField("businessPriority", ticket.getBusinessPriority().toString());
+        gen.writeStringField("status", ticket.getStatus().toString());
+        gen.writeStringField("createdAt", ticket.getCreatedAt());
+        gen.writeStringField("solvedAt", orEmpty(ticket.getSolvedAt()));
+        gen.writeStringField("reportedBy", ticket.getReportedBy());
+        if (matchingWords != null) {
+            gen.writeArrayFieldStart("matchingWords");
+            for (final String word : matchingWords) {
+                gen.writeString(word);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes the comments field of a ticket.
+     *
+     * @param gen      The generator to write to
+     * @param comments The comments, in output order
+     * @param limit    The maximum number of comments to write
+     * @throws IOException If writing fails
+     */
+    public static void writeComments(final JsonGenerator gen,
+            final List<Ticket.Comment> comments, final int limit) throws IOException {
+        gen.writeArrayFieldStart("comments");
+        final int count = Math.min(limit, comments.size());
+        for (int i = 0; i < count; i++) {
+            final Ticket.Comment comment = comments.get(i);
+            gen.writeStartObject();
+            gen.writeStringField("author", comment.getAuthor());
+            gen.writeStringField("content", comment.getContent());
+            gen.writeStringField("createdAt", comment.getCreatedAt());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Writes an entry of a ticket's history.
+     *
+     * @param gen    The generator to write to
+     * @param action The action to write
+     * @throws IOException If writing fails
+     */
+    public static void writeAction(final JsonGenerator gen, final Ticket.Action action)
+            throws IOException {
+        gen.writeStartObject();
+        if (action.getMilestone() != null && !action.getMilestone().isEmpty()) {
+            gen.writeStringField("milestone", action.getMilestone());
+        }
+        if (action.getFrom() != null) {
+            gen.writeStringField("from", action.getFrom().toString());
+        }
+        if (action.getTo() != null) {
+            gen.writeStringField("to", action.getTo().toString());
+        }
+        if (action.getBy() != null && !action.getBy().isEmpty()) {
+            gen.writeStringField("by", action.getBy());
+        }
+        gen.writeStringField("timestamp", action.getTimestamp());
+        gen.writeStringField("action", action.getAction());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes a milestone as shown by viewMilestones.
+     *
+     * @param gen       The generator to write to
+     * @param milestone The milestone to write
+     * @throws IOException If writing fails
+     */
+    public static void writeMilestone(final JsonGenerator gen, final Milestone milestone)
+            throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("name", milestone.getName());
+        gen.writeArrayFieldStart("blockingFor");
+        for (final String name : milestone.getBlockingFor()) {
+            gen.writeString(name);
+        }
+        gen.writeEndArray();
+        gen.writeStringField("dueDate", milestone.getDueDate());
+        gen.writeStringField("createdAt", milestone.getCreatedAt());
+        gen.writeArrayFieldStart("tickets");
+        for (final int ticketId : milestone.getTickets()) {
+            gen.writeNumber(ticketId);
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("assignedDevs");
+        for (final String dev : milestone.getAssignedDevs()) {
+            gen.writeString(dev);
+        }
+        gen.writeEndArray();
+
+        gen.writeStringField("createdBy", milestone.getOwner());
+        gen.writeStringField("status", milestone.getStatus());
+        gen.writeBooleanField("isBlocked", milestone.isBlocked());
+        gen.writeNumberField("daysUntilDue", milestone.getDaysUntilDue());
+        gen.writeNumberField("overdueBy", milestone.getOverdueBy());
+        writeIds(gen, "openTickets", milestone.getOpenTickets(), milestone.getOpenDuplicates());
+        writeIds(gen, "closedTickets", milestone.getClosedTickets(),
+                milestone.getClosedDuplicates());
+        gen.writeNumberField("completionPercentage", milestone.getCompletionPercentage());
+
+        gen.writeArrayFieldStart("repartition");
+        final Set<String> shown = new HashSet<>();
+        for (final String dev : milestone.getAssignedDevs()) {
+            if (dev == null) {
+                continue;
+            }
+            gen.writeStartObject();
+            gen.writeStringField("developer", dev);
+            writeIds(gen, "assignedTickets",
+                    shown.add(dev) ? milestone.getRepartition().get(dev) : NO_TICKETS);
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes the completion forecast of a milestone as of a day.
+     *
+     * @param gen       The generator to write to
+     * @param milestone The milestone to write
+     * @param day       The epoch day of the forecast
+     * @throws IOException If writing fails
+     */
+    public static void writeMilestoneForecast(final JsonGenerator gen,
+            final Milestone milestone, final int day) throws IOException {
+        final MilestoneForecast forecast = milestone.getForecast();
+        final int open = milestone.getNumberOfTickets("OPEN");
+        final int projected = forecast.projectCompletion(day, open);
+
+        gen.writeStartObject();
+        gen.writeStringField("name", milestone.getName());
+        gen.writeStringField("dueDate", milestone.getDueDate());
+        gen.writeStringField("status", milestone.getStatus());
+        gen.writeNumberField("completionPercentage", milestone.getCompletionPercentage());
+        gen.writeNumberField("remainingTickets", open);
+        gen.writeNumberField("closeRate", MathUtil.round(forecast.rateOn(day)));
+        if (projected == DateUtil.NO_DAY) {
+            gen.writeNullField("projectedCompletion");
+            gen.writeNullField("projectedOverdueBy");
+        } else {
+            gen.writeStringField("projectedCompletion",
+                    DateUtil.toDate(projected).toString());
+            gen.writeNumberField("projectedOverdueBy",
+                    Math.max(0, (long) projected - milestone.getDueDay()));
+        }
+        gen.writeStringField("overdueRisk",
+                MilestoneForecast.riskOf(projected, milestone.getDueDay(), open).toString());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes a developer as shown in developer search results.
+     *
+     * @param gen The generator to write to
+     * @param dev The developer to write
+     * @throws IOException If writing fails
+     */
+    public static void writeDeveloper(final JsonGenerator gen, final Developer dev)
+            throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("username", dev.getUsername());
+        gen.writeStringField("expertiseArea", dev.getExpertiseArea().toString());
+        gen.writeStringField("seniority", dev.getSeniority().toString());
+        gen.writeNumberField("performanceScore", dev.getPerformanceScore());
+        gen.writeStringField("hireDate", dev.getHireDate());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes a set of ticket IDs in ascending order.
+     *
+     * @param gen   The generator to write to
+     * @param field The field name
+     * @param ids   The ticket IDs
+     * @throws IOException If writing fails
+     */
+    private static void writeIds(final JsonGenerator gen, final String field,
+            final BitSet ids) throws IOException {
+        gen.writeArrayFieldStart(field);
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            gen.writeNumber(id);
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Writes a multiset of ticket IDs in ascending order, repeating each ID
+     * as often as it occurs.
+     *
+     * @param gen        The generator to write to
+     * @param field      The field name
+     * @param ids        The ticket IDs
+     * @param duplicates The IDs listed more than once, mapped to their extra
+     *                   occurrences
+     * @throws IOException If writing fails
+     */
+    private static void writeIds(final JsonGenerator gen, final String field,
+            final BitSet ids, final Map<Integer, Integer> duplicates) throws IOException {
+        gen.writeArrayFieldStart(field);
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            final int occurrences = 1 + duplicates.getOrDefault(id, 0);
+            for (int i = 0; i < occurrences; i++) {
+                gen.writeNumber(id);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Replaces a missing value with an empty string.
+     *
+     * @param value The value
+     * @return The value, or "" if it is null
+     */
+    private static String orEmpty(final String value) {
+        return value != null ? value : "";
+    }
+}
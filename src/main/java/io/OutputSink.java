@@ -0,0 +1,81 @@
+package io;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writes command responses to the output file as soon as they are produced.
+ * The file holds the same pretty-printed JSON array the buffered writer
+ * produced. Responses go through the generator's buffer, which reaches the
+ * file whenever it fills up, and the array is closed and flushed when the
+ * sink is closed.
+ */
+public final class OutputSink implements Closeable {
+    private final JsonGenerator generator;
+
+    /**
+     * Opens a sink on a file and writes the start of the array.
+     *
+     * @param mapper     The mapper used to create the generator
+     * @param outputFile The file to write to
+     * @throws IOException If the file can't be opened
+     */
+    public OutputSink(final ObjectMapper mapper, final File outputFile) throws IOException {
+        generator = mapper.getFactory().createGenerator(outputFile, JsonEncoding.UTF8);
+        generator.useDefaultPrettyPrinter();
+        generator.writeStartArray();
+    }
+
+    /**
+     * Writes one response.
+     *
+     * @param node The response to write
+     * @throws IOException If the response can't be written
+     */
+    public void write(final ObjectNode node) throws IOException {
+        generator.writeTree(node);
+    }
+
+    /**
+     * Writes one response directly to the generator: the command header,
+     * then the fields written by the body.
+     *
+     * @param command The command the response belongs to
+     * @param body    Writes the remaining fields of the response
+     * @throws IOException If the response can't be written
+     */
+    public void write(final CommandInput command, final Body body) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("command", command.command());
+        generator.writeStringField("username", command.username());
+        generator.writeStringField("timestamp", command.timestamp());
+        body.write(generator);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the fields of a response after its header.
+     */
+    @FunctionalInterface
+    public interface Body {
+        /**
+         * Writes the fields.
+         *
+         * @param generator The generator, inside the response object
+         * @throws IOException If writing fails
+         */
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+    }
+}
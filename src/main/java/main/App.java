@@ -3,6 +3,7 @@ package main;
 import database.Database;
 import io.IOUtil;
 import io.CommandInput;
+import io.CommandSource;
 
 import java.io.IOException;
 import java.util.List;
@@ -24,7 +25,7 @@ public final class App {
     }
 
     private static LocalDate currentDate;
-    private static int it = 0;
+    private static CommandSource commands;
     private static Database db = Database.getInstance();
 
     private static final int TESTING_PERIOD_DAYS = 12;
@@ -33,12 +34,14 @@ public final class App {
     /**
      * Processes commands during the testing period (first 12 days).
      * Only handles ticket reporting and viewing commands.
+     *
+     * @throws IOException If a command can't be read
      */
-    public static void testingPeriod() {
+    public static void testingPeriod() throws IOException {
         final LocalDate endDate = currentDate.plusDays(TESTING_PERIOD_DAYS);
 
-        while (it < db.getSize("commands")) {
-            final CommandInput currentCommand = db.getCommands().get(it);
+        while (commands.hasNext()) {
+            final CommandInput currentCommand = commands.peek();
             currentDate = currentCommand.time();
             if (currentDate.isAfter(endDate)) {
                 currentDate = endDate;
@@ -59,7 +62,7 @@ public final class App {
                 default:
                     System.out.println("didnt match command in testing");
             }
-            it++;
+            commands.advance();
         }
     }
 
@@ -67,12 +70,14 @@ public final class App {
      * Processes commands during the development period (after testing).
      * Handles all system commands including milestone management, assignments, and
      * analytics.
+     *
+     * @throws IOException If a command can't be read
      */
-    public static void developPeriod() {
+    public static void developPeriod() throws IOException {
         final LocalDate endDate = currentDate.plusDays(DEV_PERIOD_DAYS);
 
-        while (it < db.getSize("commands")) {
-            final CommandInput currentCommand = db.getCommands().get(it);
+        while (commands.hasNext()) {
+            final CommandInput currentCommand = commands.peek();
             currentDate = currentCommand.time();
             if (currentDate.isAfter(endDate)) {
                 break;
@@ -93,6 +98,10 @@ public final class App {
                     IOUtil.viewMilestones(currentCommand,
                             db.getMilestones(currentCommand.username()));
                     break;
+                case "viewMilestoneForecasts":
+                    IOUtil.viewMilestoneForecasts(currentCommand,
+                            db.getMilestones(currentCommand.username()));
+                    break;
                 case "assignTicket":
                     db.assignTicket(currentCommand);
                     break;
@@ -150,7 +159,7 @@ public final class App {
                     continue;
                 default:
             }
-            it++;
+            commands.advance();
         }
 
     }
@@ -167,22 +176,29 @@ public final class App {
         IOUtil.clearIO();
         IOUtil.setPaths(inputPath, outputPath);
         Ticket.clearTicket();
-        it = 0;
 
         try {
             db.setUsers(IOUtil.readUsers());
-            db.setCommands(IOUtil.readCommands());
         } catch (final IOException e) {
             System.out.println("error reading from input file: " + e.getMessage());
             return;
         }
 
-        currentDate = db.getCommands().getFirst().time();
-        db.setLastUpdate(currentDate);
-
-        testingPeriod();
-        developPeriod();
+        try (CommandSource source = IOUtil.openCommands()) {
+            commands = source;
+            IOUtil.openOutput();
+            if (commands.hasNext()) {
+                currentDate = commands.peek().time();
+                db.setLastUpdate(currentDate);
 
-        IOUtil.writeOutput();
+                testingPeriod();
+                developPeriod();
+            }
+        } catch (final IOException e) {
+            System.out.println("error reading from input file: " + e.getMessage());
+        } finally {
+            commands = null;
+            IOUtil.writeOutput();
+        }
     }
 }
@@ -0,0 +1,49 @@
+package mathutils;
+
+import java.time.LocalDate;
+
+/**
+ * Utility class for dates held as epoch days. Entities parse each date
+ * once into an int and do all date arithmetic on that value; the String
+ * form is only kept for the output.
+ */
+public final class DateUtil {
+    /** Epoch day of a date that is not set. */
+    public static final int NO_DAY = Integer.MIN_VALUE;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private DateUtil() {
+    }
+
+    /**
+     * Parses an ISO date into its epoch day.
+     *
+     * @param date the date, e.g. 2025-10-16, or null
+     * @return the epoch day, or {@link #NO_DAY} if the date is null
+     */
+    public static int toDay(final String date) {
+        return date == null ? NO_DAY : (int) LocalDate.parse(date).toEpochDay();
+    }
+
+    /**
+     * Gets the epoch day of a date.
+     *
+     * @param date the date
+     * @return the epoch day
+     */
+    public static int toDay(final LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+
+    /**
+     * Turns an epoch day back into a date.
+     *
+     * @param day the epoch day, or {@link #NO_DAY}
+     * @return the date, or null if the day is {@link #NO_DAY}
+     */
+    public static LocalDate toDate(final int day) {
+        return day == NO_DAY ? null : LocalDate.ofEpochDay(day);
+    }
+}
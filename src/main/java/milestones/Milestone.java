@@ -3,11 +3,16 @@ package milestones;
 import java.util.Arrays;
 import database.Database;
 import io.CommandInput;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
+import java.util.BitSet;
+import mathutils.DateUtil;
 import mathutils.MathUtil;
 import notifications.Subject;
 import notifications.Observer;
@@ -31,9 +36,20 @@ public final class Milestone implements Subject {
     private String name;
     private String[] blockingFor;
     private String dueDate;
+    @Setter(AccessLevel.NONE)
+    private int dueDay;
     private int[] tickets;
-    private List<Integer> openTickets = new ArrayList<>();
-    private List<Integer> closedTickets = new ArrayList<>();
+    private final BitSet ticketSet = new BitSet();
+    /** IDs of the open tickets. */
+    private final BitSet openTickets = new BitSet();
+    /** Open tickets listed more than once, mapped to their extra occurrences. */
+    private final Map<Integer, Integer> openDuplicates = new HashMap<>();
+    /** IDs of the closed tickets. */
+    private final BitSet closedTickets = new BitSet();
+    /** Closed tickets listed more than once, mapped to their extra occurrences. */
+    private final Map<Integer, Integer> closedDuplicates = new HashMap<>();
+    private int openCount;
+    private int closedCount;
     private double completionPercentage;
     private String[] assignedDevs;
     private String status;
@@ -41,9 +57,13 @@ public final class Milestone implements Subject {
 
     private int overdueBy;
     private int daysUntilDue;
-    private Repartition[] repartitions;
+    /** Tickets of each assigned developer, kept for its first listing. */
+    private final Map<String, BitSet> repartition = new HashMap<>();
+    private final MilestoneForecast forecast;
 
     private String createdAt;
+    @Setter(AccessLevel.NONE)
+    private int createdDay;
     private String owner;
 
     /**
@@ -61,33 +81,51 @@ public final class Milestone implements Subject {
             final String[] blockingFor, final String dueDate, final int[] tickets,
             final String[] assignedDevs) {
         this.owner = owner;
-        this.createdAt = createdAt;
+        setCreatedAt(createdAt);
 
         this.name = name;
         this.blockingFor = blockingFor;
-        if (blockingFor != null) {
-            Arrays.stream(blockingFor)
-                    .forEach(milestone -> db.blockMilestone(milestone));
-        }
-        this.dueDate = dueDate;
+        setDueDate(dueDate);
         this.tickets = tickets;
         this.assignedDevs = assignedDevs;
         this.status = "ACTIVE";
+        this.forecast = new MilestoneForecast(createdDay);
 
         for (int ticketId : tickets) {
-            openTickets.add(ticketId);
+            ticketSet.set(ticketId);
+            addOne(openTickets, openDuplicates, ticketId);
         }
+        openCount = tickets.length;
 
-        if (assignedDevs == null || assignedDevs.length == 0) {
-            this.repartitions = new Repartition[0];
-        } else {
-            this.repartitions = new Repartition[assignedDevs.length];
-            for (int i = 0; i < assignedDevs.length; i++) {
-                this.repartitions[i] = new Repartition(assignedDevs[i]);
+        if (assignedDevs != null) {
+            for (String dev : assignedDevs) {
+                if (dev != null) {
+                    repartition.putIfAbsent(dev, new BitSet());
+                }
             }
         }
     }
 
+    /**
+     * Sets the due date of the milestone.
+     *
+     * @param dueDate The due date string.
+     */
+    public void setDueDate(final String dueDate) {
+        this.dueDate = dueDate;
+        this.dueDay = DateUtil.toDay(dueDate);
+    }
+
+    /**
+     * Sets the creation timestamp of the milestone.
+     *
+     * @param createdAt The creation timestamp.
+     */
+    public void setCreatedAt(final String createdAt) {
+        this.createdAt = createdAt;
+        this.createdDay = DateUtil.toDay(createdAt);
+    }
+
     @Override
     public void addObserver(final Observer observer) {
         observers.add(observer);
@@ -154,55 +192,9 @@ public final class Milestone implements Subject {
      * @param command The command containing ticket ID and username.
      */
     public void removeTicketFromDev(final CommandInput command) {
-        int ticketId = command.ticketID();
-        String username = command.username();
-
-        for (Repartition rep : this.getRepartitions()) {
-            if (rep.getDev() != null && rep.getDev().equals(username)) {
-                List<Integer> assignedTickets = rep.getAssignedTickets();
-                if (assignedTickets != null) {
-                    assignedTickets.removeIf(id -> id == ticketId);
-                }
-                break;
-            }
-        }
-    }
-
-    /**
-     * Inner class representing the repartition of tickets among developers.
-     */
-    @Getter
-    @Setter
-    public class Repartition {
-        private String dev;
-        private List<Integer> assignedTickets;
-
-        /**
-         * Default constructor.
-         */
-        public Repartition() {
-            assignedTickets = new ArrayList<>();
-        }
-
-        /**
-         * Constructor with developer name.
-         *
-         * @param name The developer's username.
-         */
-        public Repartition(final String name) {
-            assignedTickets = new ArrayList<>();
-            this.dev = name;
-        }
-
-        /**
-         * Constructor with developer name and assigned tickets.
-         *
-         * @param name            The developer's username.
-         * @param assignedTickets List of ticket IDs.
-         */
-        public Repartition(final String name, final List<Integer> assignedTickets) {
-            this.dev = name;
-            this.assignedTickets = (assignedTickets != null) ? assignedTickets : new ArrayList<>();
+        final BitSet assignedTickets = repartition.get(command.username());
+        if (assignedTickets != null) {
+            assignedTickets.clear(command.ticketID());
         }
     }
 
@@ -212,11 +204,9 @@ public final class Milestone implements Subject {
      * @param command The command containing ticket ID and username.
      */
     public void assignDeveloper(final CommandInput command) {
-        for (Repartition rep : this.getRepartitions()) {
-            if (rep.getDev().equals(command.username())) {
-                rep.getAssignedTickets().add(command.ticketID());
-                break;
-            }
+        final BitSet assignedTickets = repartition.get(command.username());
+        if (assignedTickets != null) {
+            assignedTickets.set(command.ticketID());
         }
     }
 
@@ -227,11 +217,12 @@ public final class Milestone implements Subject {
      */
     public void changeStatusOfTicket(final CommandInput command) {
         int id = command.ticketID();
-        if (openTickets.contains(id)) {
-            openTickets.remove(Integer.valueOf(id));
-            closedTickets.add(id);
+        if (moveOne(openTickets, openDuplicates, closedTickets, closedDuplicates, id)) {
+            openCount--;
+            closedCount++;
+            forecast.recordClose(DateUtil.toDay(command.time()));
         }
-        if (openTickets.isEmpty()) {
+        if (openCount == 0) {
             lastTicket = id;
         }
         this.updateCompletionPercentage(command.time());
@@ -244,27 +235,69 @@ public final class Milestone implements Subject {
      */
     public void undoChangeStatusOfTicket(final CommandInput command) {
         int id = command.ticketID();
-        if (closedTickets.contains(id)) {
-            openTickets.add(id);
-            closedTickets.remove(Integer.valueOf(id));
+        if (moveOne(closedTickets, closedDuplicates, openTickets, openDuplicates, id)) {
+            openCount++;
+            closedCount--;
+            forecast.recordReopen(DateUtil.toDay(command.time()));
         }
         this.updateCompletionPercentage(command.time());
     }
 
+    /**
+     * Moves one occurrence of a ticket ID between two ticket multisets.
+     *
+     * @param from           The IDs to take the ID from.
+     * @param fromDuplicates The extra occurrences of the source IDs.
+     * @param to             The IDs to add the ID to.
+     * @param toDuplicates   The extra occurrences of the target IDs.
+     * @param id             The ID of the ticket.
+     * @return true if the ID was in the source multiset, false otherwise.
+     */
+    private static boolean moveOne(final BitSet from, final Map<Integer, Integer> fromDuplicates,
+            final BitSet to, final Map<Integer, Integer> toDuplicates, final int id) {
+        if (id < 0 || !from.get(id)) {
+            return false;
+        }
+        final Integer extra = fromDuplicates.get(id);
+        if (extra == null) {
+            from.clear(id);
+        } else if (extra > 1) {
+            fromDuplicates.put(id, extra - 1);
+        } else {
+            fromDuplicates.remove(id);
+        }
+        addOne(to, toDuplicates, id);
+        return true;
+    }
+
+    /**
+     * Adds one occurrence of a ticket ID to a ticket multiset.
+     *
+     * @param ids        The IDs.
+     * @param duplicates The extra occurrences of the IDs.
+     * @param id         The ID of the ticket.
+     */
+    private static void addOne(final BitSet ids, final Map<Integer, Integer> duplicates,
+            final int id) {
+        if (ids.get(id)) {
+            duplicates.merge(id, 1, Integer::sum);
+        } else {
+            ids.set(id);
+        }
+    }
+
     /**
      * Updates the completion percentage of the milestone.
-     * Checks if the milestone is completed and unblocks dependent milestones.
+     * Each time the milestone is completed, unblocks and notifies the
+     * milestones it blocks that have no other blocker left.
      *
      * @param time The current date.
      */
-    // TODO this is runnign on assumption that a milestone cant be blocked by two
-    // other at the same time which is wrong fix later
     public void updateCompletionPercentage(final LocalDate time) {
-        this.completionPercentage = MathUtil.round(getNumberOfTickets("CLOSED")
+        this.completionPercentage = MathUtil.round((double) getNumberOfTickets("CLOSED")
                 / getNumberOfTickets("ALL"));
         if (completionPercentage == 1.0) {
-            for (String milestoneName : blockingFor) {
-                Milestone blockedMilestone = db.getMilestoneFromName(milestoneName);
+            for (Milestone blockedMilestone : db.getMilestoneGraph().complete(this)) {
                 blockedMilestone.setBlocked(false);
                 blockedMilestone.setUnlockedDate(time);
 
@@ -283,14 +316,14 @@ public final class Milestone implements Subject {
      * @param typeOf The type of tickets to count ("OPEN", "CLOSED", "ALL").
      * @return The count of tickets.
      */
-    public double getNumberOfTickets(final String typeOf) {
+    public int getNumberOfTickets(final String typeOf) {
         switch (typeOf) {
             case "OPEN":
-                return (double) openTickets.size();
+                return openCount;
             case "CLOSED":
-                return (double) closedTickets.size();
+                return closedCount;
             case "ALL":
-                return (double) (openTickets.size() + closedTickets.size());
+                return openCount + closedCount;
             default:
                 return 0;
         }
@@ -303,12 +336,7 @@ public final class Milestone implements Subject {
      * @return true if the ticket is in the milestone, false otherwise.
      */
     public boolean containsTicket(final int id) {
-        for (int ticketId : tickets) {
-            if (ticketId == id) {
-                return true;
-            }
-        }
-        return false;
+        return id >= 0 && ticketSet.get(id);
     }
 
     /**
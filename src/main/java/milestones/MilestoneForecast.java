@@ -0,0 +1,133 @@
+package milestones;
+
+import lombok.Getter;
+import mathutils.DateUtil;
+
+/**
+ * Rolling close rate of a milestone, used to project when its last open
+ * ticket will be closed. The rate is an exponentially weighted average of
+ * the tickets closed per day: each close or reopen folds into the running
+ * average in constant time, and the days without activity in between decay
+ * it in a single step.
+ */
+@Getter
+public final class MilestoneForecast {
+    /** Weight of the most recent day in the rolling close rate. */
+    public static final double SMOOTHING = 0.3;
+    /** Days past the due date up to which a projection is MEDIUM risk. */
+    public static final int MEDIUM_RISK_DAYS = 3;
+
+    private double rate;
+    private int lastDay;
+    private int closesOnLastDay;
+    private int lastClose = DateUtil.NO_DAY;
+
+    /**
+     * Overdue risk of a milestone projection.
+     */
+    public enum Risk {
+        NONE,
+        LOW,
+        MEDIUM,
+        HIGH
+    }
+
+    /**
+     * Creates a forecast with no closes, starting on the creation day.
+     *
+     * @param createdDay The milestone creation epoch day
+     */
+    public MilestoneForecast(final int createdDay) {
+        this.lastDay = createdDay;
+    }
+
+    /**
+     * Records a ticket of the milestone getting closed.
+     *
+     * @param day The epoch day of the close
+     */
+    public void recordClose(final int day) {
+        record(day, 1);
+        lastClose = day;
+    }
+
+    /**
+     * Records a closed ticket of the milestone getting reopened.
+     *
+     * @param day The epoch day of the reopen
+     */
+    public void recordReopen(final int day) {
+        record(day, -1);
+    }
+
+    /**
+     * Gets the rolling close rate as of a day. The closes of the last
+     * recorded day count once that day is over, or right away when asked
+     * on that same day.
+     *
+     * @param day The current epoch day, not before the last recorded event
+     * @return The expected number of tickets closed per day
+     */
+    public double rateOn(final int day) {
+        final double folded = (1 - SMOOTHING) * rate + SMOOTHING * closesOnLastDay;
+        final int idleDays = day - lastDay - 1;
+        return Math.max(0, idleDays > 0 ? folded * Math.pow(1 - SMOOTHING, idleDays) : folded);
+    }
+
+    /**
+     * Projects the day the last open ticket will be closed.
+     *
+     * @param day         The current epoch day
+     * @param openTickets The number of tickets still open
+     * @return The projected epoch day, the day of the last close if nothing
+     *         is open, or {@link DateUtil#NO_DAY} if nothing was closed
+     *         recently enough to estimate a rate or the rate is too low for
+     *         the projection to fit in an epoch day
+     */
+    public int projectCompletion(final int day, final int openTickets) {
+        if (openTickets == 0) {
+            return lastClose != DateUtil.NO_DAY ? lastClose : day;
+        }
+        final double currentRate = rateOn(day);
+        if (currentRate <= 0) {
+            return DateUtil.NO_DAY;
+        }
+        final double days = Math.ceil(openTickets / currentRate);
+        if (days > (double) Integer.MAX_VALUE - day) {
+            return DateUtil.NO_DAY;
+        }
+        return day + (int) days;
+    }
+
+    /**
+     * Rates the risk of a milestone finishing after its due date.
+     *
+     * @param projected   The projected completion epoch day, or
+     *                    {@link DateUtil#NO_DAY} if unknown
+     * @param dueDay      The due epoch day
+     * @param openTickets The number of tickets still open
+     * @return NONE when nothing is open, LOW when the projection is on time,
+     *         MEDIUM when it is a few days late and HIGH otherwise
+     */
+    public static Risk riskOf(final int projected, final int dueDay, final int openTickets) {
+        if (openTickets == 0) {
+            return Risk.NONE;
+        }
+        if (projected == DateUtil.NO_DAY) {
+            return Risk.HIGH;
+        }
+        if (projected <= dueDay) {
+            return Risk.LOW;
+        }
+        return (long) projected - dueDay > MEDIUM_RISK_DAYS ? Risk.HIGH : Risk.MEDIUM;
+    }
+
+    private void record(final int day, final int closes) {
+        if (day > lastDay) {
+            rate = rateOn(day);
+            lastDay = day;
+            closesOnLastDay = 0;
+        }
+        closesOnLastDay += closes;
+    }
+}
@@ -0,0 +1,117 @@
+package milestones;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dependency graph of milestones. An edge goes from a milestone to every
+ * milestone it blocks, and each node counts the blockers that are not
+ * completed yet, so a milestone is unblocked once its last blocker
+ * completes.
+ *
+ * <p>A milestone only blocks the milestones that exist when it is created,
+ * so edges always point to older milestones and no cycle can form. Names
+ * that don't exist yet, including its own, block nothing.
+ */
+public final class MilestoneGraph {
+    private final Map<Milestone, Node> nodes = new IdentityHashMap<>();
+    private final Map<String, Node> byName = new HashMap<>();
+
+    /**
+     * A milestone with its outgoing edges and pending blocker count.
+     */
+    private static final class Node {
+        private final Milestone milestone;
+        private final List<Node> blocks = new ArrayList<>();
+        private int blockers;
+        private boolean released;
+
+        /**
+         * Creates a node with no edges.
+         *
+         * @param milestone The milestone of the node
+         */
+        Node(final Milestone milestone) {
+            this.milestone = milestone;
+        }
+    }
+
+    /**
+     * Adds a new milestone, blocking the existing milestones it names.
+     *
+     * @param milestone The new milestone
+     */
+    public void add(final Milestone milestone) {
+        final Node node = new Node(milestone);
+        nodes.put(milestone, node);
+
+        byName.putIfAbsent(milestone.getName(), node);
+
+        if (milestone.getBlockingFor() == null) {
+            return;
+        }
+        for (final String target : milestone.getBlockingFor()) {
+            final Node blocked = byName.get(target);
+            if (blocked != null && blocked != node) {
+                link(node, blocked);
+            }
+        }
+    }
+
+    /**
+     * Completes a milestone. The first completion releases its edges;
+     * every completion, including one after an undo, then returns the
+     * milestones it names that have no blockers left, in the order they are
+     * named. Names with no milestone are skipped.
+     *
+     * @param milestone The completed milestone
+     * @return The named milestones that are no longer blocked
+     */
+    public List<Milestone> complete(final Milestone milestone) {
+        final Node node = nodes.get(milestone);
+        if (node == null) {
+            return List.of();
+        }
+        if (!node.released) {
+            node.released = true;
+            for (final Node blocked : node.blocks) {
+                blocked.blockers--;
+            }
+        }
+
+        final List<Milestone> unblocked = new ArrayList<>();
+        if (milestone.getBlockingFor() == null) {
+            return unblocked;
+        }
+        for (final String target : milestone.getBlockingFor()) {
+            final Node blocked = byName.get(target);
+            if (blocked != null && blocked.blockers == 0) {
+                unblocked.add(blocked.milestone);
+            }
+        }
+        return unblocked;
+    }
+
+    /**
+     * Removes every milestone.
+     */
+    public void clear() {
+        nodes.clear();
+        byName.clear();
+    }
+
+    /**
+     * Adds an edge and blocks its target.
+     *
+     * @param blocker The blocking node
+     * @param blocked The blocked node
+     */
+    private static void link(final Node blocker, final Node blocked) {
+        blocker.blocks.add(blocked);
+        blocked.blockers++;
+        blocked.milestone.setBlocked(true);
+    }
+}
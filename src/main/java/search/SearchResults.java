@@ -0,0 +1,25 @@
+package search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of one search command.
+ * The matching words belong to the query that produced them, so they are
+ * returned next to the results instead of being stored on the tickets.
+ *
+ * @param items         The matching tickets or developers, in output order
+ * @param matchingWords The keywords each matching ticket contains, by ticket
+ *                      ID; empty when the search had no keywords filter
+ */
+public record SearchResults(List<?> items, Map<Integer, List<String>> matchingWords) {
+    /**
+     * Gets the keywords a ticket of the results contains.
+     *
+     * @param ticketId The ticket ID
+     * @return The matching keywords, or an empty list if there are none
+     */
+    public List<String> matchingWordsOf(final int ticketId) {
+        return matchingWords.getOrDefault(ticketId, List.of());
+    }
+}
@@ -1,6 +1,7 @@
 package search;
 
 import search.filters.FilterContext;
+import search.filters.TicketFilterStrategy;
 import search.filters.impl.AvailableForAssignmentFilter;
 import search.filters.impl.BusinessPriorityFilter;
 import search.filters.impl.CreatedAfterFilter;
@@ -13,24 +14,24 @@ import search.filters.impl.PerformanceScoreBelowFilter;
 import search.filters.impl.SeniorityFilter;
 import search.filters.impl.TypeFilter;
 import tickets.Ticket;
-import milestones.Milestone;
 import users.Developer;
 import users.Manager;
 import users.User;
 import io.FiltersInput;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import database.Database;
 
 /**
  * Service class for handling search operations on tickets and developers.
  */
 public final class SearchService {
-
     /**
      * Private constructor to prevent instantiation.
      */
@@ -41,10 +42,10 @@ public final class SearchService {
      * Executes a search based on the provided command and filters.
      *
      * @param command The command containing search criteria and filters.
-     * @return A list of objects (Tickets or Developers) matching the search
-     *         criteria.
+     * @return The objects (Tickets or Developers) matching the search
+     *         criteria, with the keywords found in each ticket.
      */
-    public static List<?> getSearchResults(final io.CommandInput command) {
+    public static SearchResults getSearchResults(final io.CommandInput command) {
         Database db = Database.getInstance();
         User user = db.getUser(command.username());
         FiltersInput filters = command.filters();
@@ -52,85 +53,79 @@ public final class SearchService {
 
         if ("DEVELOPER".equals(searchType)) {
             if (!"MANAGER".equals(user.getRole().name())) {
-                return new ArrayList<>();
+                return new SearchResults(new ArrayList<>(), Map.of());
             }
-            return filterDevelopers((Manager) user, db.getAllDevelopers(), filters);
+            return new SearchResults(
+                    filterDevelopers((Manager) user, db.getAllDevelopers(), filters), Map.of());
         } else {
-            return filterTickets(user, db.getAllTickets(), filters);
+            return filterTickets(user, filters);
         }
     }
 
-    private static List<Ticket> filterTickets(final User user, final List<Ticket> allTickets,
-            final FiltersInput filters) {
-        final List<Ticket> accessibleTickets = new ArrayList<>();
+    private static SearchResults filterTickets(final User user, final FiltersInput filters) {
         Database db = Database.getInstance();
+        final Map<String, String> filterMap = convertToMap(filters);
+        final List<TicketFilterStrategy> strategies = new ArrayList<>();
+        final BitSet candidates;
+
+        strategies.add(new BusinessPriorityFilter());
+        strategies.add(new TypeFilter());
+        strategies.add(new CreatedAtFilter());
+        strategies.add(new CreatedBeforeFilter());
+        strategies.add(new CreatedAfterFilter());
+        final KeywordsFilter keywordsFilter = new KeywordsFilter(db.getKeywordIndex());
+        strategies.add(keywordsFilter);
 
         if ("MANAGER".equals(user.getRole().name())) {
-            accessibleTickets.addAll(allTickets);
+            candidates = db.getTicketBuckets().all();
         } else if ("DEVELOPER".equals(user.getRole().name())) {
             final Developer dev = (Developer) user;
-            final List<Milestone> allMilestones = db.getMilestones();
-
-            for (final Milestone milestone : allMilestones) {
-                boolean isAssigned = false;
-                if (milestone.getAssignedDevs() != null) {
-                    for (String assignee : milestone.getAssignedDevs()) {
-                        if (assignee.equals(dev.getUsername())) {
-                            isAssigned = true;
-                            break;
-                        }
-                    }
-                }
-
-                if (isAssigned) {
-                    for (final int ticketId : milestone.getTickets()) {
-                        for (final Ticket ticket : allTickets) {
-                            if (ticket.getId() == ticketId
-                                    && ticket.getStatus() == Ticket.Status.OPEN) {
-
-                                boolean alreadyAdded = false;
-                                for (final Ticket addedTicket : accessibleTickets) {
-                                    if (addedTicket.getId() == ticketId) {
-                                        alreadyAdded = true;
-                                        break;
-                                    }
-                                }
-
-                                if (!alreadyAdded) {
-                                    accessibleTickets.add(ticket);
-                                }
-                                break;
-                            }
-                        }
-                    }
-                }
-            }
+            candidates = db.getMilestoneTicketIds(dev.getUsername());
+            candidates.and(db.getTicketBuckets().withStatus(Ticket.Status.OPEN));
+            strategies.add(new AvailableForAssignmentFilter(dev));
         } else {
-            return new ArrayList<>();
+            return new SearchResults(new ArrayList<>(), Map.of());
         }
 
-        final FilterContext<Ticket> context = new FilterContext<>();
+        new TicketQueryPlanner(db.getTicketBuckets(), db.getCreatedAtIndex())
+                .narrow(candidates, strategies, filterMap);
 
-        context.addStrategy("businessPriority", new BusinessPriorityFilter());
-        context.addStrategy("type", new TypeFilter());
-        context.addStrategy("createdAt", new CreatedAtFilter());
-        context.addStrategy("createdBefore", new CreatedBeforeFilter());
-        context.addStrategy("createdAfter", new CreatedAfterFilter());
-        context.addStrategy("keywords", new KeywordsFilter());
-
-        if ("DEVELOPER".equals(user.getRole().name())) {
-            final Developer dev = (Developer) user;
-            context.addStrategy("availableForAssignment", new AvailableForAssignmentFilter(dev));
+        final FilterContext<Ticket> context = new FilterContext<>();
+        for (final TicketFilterStrategy strategy : strategies) {
+            context.addStrategy(strategy.getFilterName(), strategy);
         }
 
-        final Map<String, String> filterMap = convertToMap(filters);
-        final List<Ticket> filtered = context.applyFilters(accessibleTickets, filterMap);
+        final List<Ticket> filtered =
+                context.applyFilters(db.getTicketsByIds(candidates), filterMap);
 
         filtered.sort(Comparator
                 .comparing(Ticket::getCreatedAt)
                 .thenComparing(Ticket::getId));
 
-        return filtered;
+        return new SearchResults(filtered,
+                matchingWords(filtered, keywordsFilter, filterMap.get("keywords")));
+    }
+
+    /**
+     * Finds the keywords of a search in each of its results.
+     *
+     * @param tickets  The matching tickets
+     * @param filter   The keywords filter of the search
+     * @param keywords The keywords filter value, or null if there is none
+     * @return The keywords each ticket contains, by ticket ID, or an empty
+     *         map if the search has no keywords
+     */
+    private static Map<Integer, List<String>> matchingWords(final List<Ticket> tickets,
+            final KeywordsFilter filter, final String keywords) {
+        if (keywords == null || keywords.trim().isEmpty()) {
+            return Map.of();
+        }
+        final Function<Ticket, List<String>> matcher = filter.matcher(keywords);
+        final Map<Integer, List<String>> matchingWords = new HashMap<>();
+        for (final Ticket ticket : tickets) {
+            matchingWords.put(ticket.getId(), matcher.apply(ticket));
+        }
+        return matchingWords;
     }
 
     private static List<Developer> filterDevelopers(final Manager manager,
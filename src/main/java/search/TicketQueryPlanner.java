@@ -0,0 +1,74 @@
+package search;
+
+import database.TicketBuckets;
+import search.filters.BucketFilter;
+import search.filters.DateRangeFilter;
+import search.filters.TicketFilterStrategy;
+import search.index.CreatedAtIndex;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plans a ticket search by intersecting the posting lists of every filter
+ * that an index can answer, before any ticket is tested one by one. The
+ * filters answered here are removed from the filter map, so only the rest
+ * (the keywords) is left for the per-ticket pass.
+ */
+public final class TicketQueryPlanner {
+    private final TicketBuckets buckets;
+    private final CreatedAtIndex createdAtIndex;
+
+    /**
+     * Creates a planner over the ticket indexes.
+     *
+     * @param buckets        The status, type and priority buckets
+     * @param createdAtIndex The creation date index
+     */
+    public TicketQueryPlanner(final TicketBuckets buckets,
+            final CreatedAtIndex createdAtIndex) {
+        this.buckets = buckets;
+        this.createdAtIndex = createdAtIndex;
+    }
+
+    /**
+     * Narrows the candidate tickets with the filters the indexes can answer.
+     *
+     * @param candidates The candidate ticket IDs, narrowed in place
+     * @param strategies The filters that may be answered from an index
+     * @param filterMap  The active filters; resolved entries are removed
+     * @return The candidates
+     */
+    public BitSet narrow(final BitSet candidates, final List<TicketFilterStrategy> strategies,
+            final Map<String, String> filterMap) {
+        long from = Long.MIN_VALUE;
+        long to = Long.MAX_VALUE;
+        boolean bounded = false;
+
+        for (final TicketFilterStrategy strategy : strategies) {
+            final String name = strategy.getFilterName();
+            final String value = filterMap.get(name);
+            if (value == null || value.trim().isEmpty()) {
+                continue;
+            }
+            if (strategy instanceof BucketFilter bucketFilter) {
+                final BitSet selected = bucketFilter.select(buckets, value);
+                if (selected != null) {
+                    candidates.and(selected);
+                }
+                filterMap.remove(name);
+            } else if (strategy instanceof DateRangeFilter dateFilter) {
+                from = Math.max(from, dateFilter.firstDay(value));
+                to = Math.min(to, dateFilter.lastDay(value));
+                filterMap.remove(name);
+                bounded = true;
+            }
+        }
+
+        if (bounded) {
+            candidates.and(createdAtIndex.range(from, to));
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,21 @@
+package search.filters;
+
+import database.TicketBuckets;
+
+import java.util.BitSet;
+
+/**
+ * Ticket filter that can be answered from the ticket buckets, so the search
+ * planner can intersect bit sets instead of testing every ticket
+ */
+public interface BucketFilter {
+    /**
+     * Get filter name
+     */
+    String getFilterName();
+
+    /**
+     * IDs of the tickets accepted by the filter, or null if it accepts every ticket
+     */
+    BitSet select(TicketBuckets buckets, String filterValue);
+}
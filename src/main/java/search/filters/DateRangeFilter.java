@@ -0,0 +1,22 @@
+package search.filters;
+
+/**
+ * Ticket filter that accepts a contiguous range of creation dates, so it can
+ * be answered from the createdAt index instead of testing every ticket
+ */
+public interface DateRangeFilter {
+    /**
+     * Get filter name
+     */
+    String getFilterName();
+
+    /**
+     * First accepted creation day, as an epoch day, or Long.MIN_VALUE if unbounded
+     */
+    long firstDay(String filterValue);
+
+    /**
+     * Last accepted creation day, as an epoch day, or Long.MAX_VALUE if unbounded
+     */
+    long lastDay(String filterValue);
+}
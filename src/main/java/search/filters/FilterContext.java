@@ -1,14 +1,22 @@
 package search.filters;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.function.Predicate;
 
 /**
- * Context for the search command
+ * Context for the search command.
+ * All active filters are compiled into predicates and tested in a single pass
+ * over the items. Filters that are cheap and reject many items run first; the
+ * order is adjusted as the pass measures how often each filter rejects, so
+ * filters must not depend on running before or after each other.
  */
 public final class FilterContext<T> {
+    private static final int REORDER_INTERVAL = 64;
+
     private final Map<String, FilterStrategy<T>> strategies;
 
     public FilterContext() {
@@ -26,7 +34,7 @@ public final class FilterContext<T> {
      * Apply the filters and return the tickets/devs that match the needs
      */
     public List<T> applyFilters(final List<T> items, final Map<String, String> filters) {
-        List<T> result = new ArrayList<>(items);
+        final List<ActiveFilter<T>> active = new ArrayList<>();
 
         for (final Map.Entry<String, String> filterEntry : filters.entrySet()) {
             final String filterName = filterEntry.getKey();
@@ -34,10 +42,66 @@ public final class FilterContext<T> {
 
             final FilterStrategy<T> strategy = strategies.get(filterName);
             if (strategy != null && filterValue != null && !filterValue.trim().isEmpty()) {
-                result = strategy.filter(result, filterValue);
+                active.add(new ActiveFilter<>(strategy.compile(filterValue), strategy.cost()));
+            }
+        }
+
+        final Comparator<ActiveFilter<T>> byRank = Comparator.comparingDouble(ActiveFilter::rank);
+        active.sort(byRank);
+
+        final List<T> result = new ArrayList<>();
+        int sinceReorder = 0;
+        for (final T item : items) {
+            if (matchesAll(active, item)) {
+                result.add(item);
+            }
+            if (++sinceReorder == REORDER_INTERVAL) {
+                active.sort(byRank);
+                sinceReorder = 0;
             }
         }
 
         return result;
     }
+
+    private static <T> boolean matchesAll(final List<ActiveFilter<T>> active, final T item) {
+        for (final ActiveFilter<T> filter : active) {
+            if (!filter.test(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compiled filter with the counters used to estimate its selectivity
+     */
+    private static final class ActiveFilter<T> {
+        private final Predicate<T> predicate;
+        private final int cost;
+        private int evaluated;
+        private int rejected;
+
+        ActiveFilter(final Predicate<T> predicate, final int cost) {
+            this.predicate = predicate;
+            this.cost = cost;
+        }
+
+        boolean test(final T item) {
+            evaluated++;
+            if (predicate.test(item)) {
+                return true;
+            }
+            rejected++;
+            return false;
+        }
+
+        /**
+         * Expected cost per rejected item; lower runs earlier
+         */
+        double rank() {
+            final double rejectRate = (rejected + 1.0) / (evaluated + 2.0);
+            return cost / rejectRate;
+        }
+    }
 }
@@ -1,13 +1,36 @@
 package search.filters;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Strategy for filters used by the search command
  */
 public interface FilterStrategy<T> {
+    /**
+     * Compile the filter value into a predicate that can be reused for every item
+     */
+    Predicate<T> compile(String filterValue);
+
+    /**
+     * Relative cost of testing one item, used to run cheap filters first
+     */
+    default int cost() {
+        return 1;
+    }
+
     /**
      * Filter for the set of possible devs/tickets
      */
-    List<T> filter(List<T> items, String filterValue);
+    default List<T> filter(final List<T> items, final String filterValue) {
+        final Predicate<T> predicate = compile(filterValue);
+        final List<T> filtered = new ArrayList<>();
+        for (final T item : items) {
+            if (predicate.test(item)) {
+                filtered.add(item);
+            }
+        }
+        return filtered;
+    }
 }
@@ -1,15 +1,17 @@
 package search.filters.impl;
 
+import database.TicketBuckets;
+import search.filters.BucketFilter;
 import search.filters.TicketFilterStrategy;
 import tickets.Ticket;
 import users.Developer;
-import java.util.List;
-import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.function.Predicate;
 
 /**
  * Filters tickets based on whether they can be assigned to the current developer.
  */
-public final class AvailableForAssignmentFilter implements TicketFilterStrategy {
+public final class AvailableForAssignmentFilter implements TicketFilterStrategy, BucketFilter {
 
     private final Developer currentDeveloper;
 
@@ -22,18 +24,11 @@ public final class AvailableForAssignmentFilter implements TicketFilterStrategy
     }
 
     @Override
-    public List<Ticket> filter(final List<Ticket> tickets, final String filterValue) {
+    public Predicate<Ticket> compile(final String filterValue) {
         if (!Boolean.parseBoolean(filterValue)) {
-            return tickets;
+            return ticket -> true;
         }
-
-        final List<Ticket> filteredTickets = new ArrayList<>();
-        for (final Ticket ticket : tickets) {
-            if (canBeAssigned(ticket)) {
-                filteredTickets.add(ticket);
-            }
-        }
-        return filteredTickets;
+        return this::canBeAssigned;
     }
 
     private boolean canBeAssigned(final Ticket ticket) {
@@ -47,6 +42,24 @@ public final class AvailableForAssignmentFilter implements TicketFilterStrategy
         return currentDeveloper.canHandleTicket(ticket);
     }
 
+    @Override
+    public BitSet select(final TicketBuckets buckets, final String filterValue) {
+        if (!Boolean.parseBoolean(filterValue)) {
+            return null;
+        }
+        final BitSet handled = new BitSet();
+        if (currentDeveloper == null) {
+            return handled;
+        }
+        for (final Ticket.BusinessPriority priority : Ticket.BusinessPriority.values()) {
+            if (currentDeveloper.canHandlePriority(priority)) {
+                handled.or(buckets.withPriority(priority));
+            }
+        }
+        handled.and(buckets.withStatus(Ticket.Status.OPEN));
+        return handled;
+    }
+
     @Override
     public String getFilterName() {
         return "availableForAssignment";
@@ -1,24 +1,30 @@
 package search.filters.impl;
 
+import database.TicketBuckets;
+import search.filters.BucketFilter;
 import search.filters.TicketFilterStrategy;
 import tickets.Ticket;
-import java.util.List;
-import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.function.Predicate;
 
 /**
  * Filters tickets based on their business priority.
  */
-public final class BusinessPriorityFilter implements TicketFilterStrategy {
+public final class BusinessPriorityFilter implements TicketFilterStrategy, BucketFilter {
 
     @Override
-    public List<Ticket> filter(final List<Ticket> tickets, final String filterValue) {
-        final List<Ticket> filteredTickets = new ArrayList<>();
-        for (final Ticket ticket : tickets) {
-            if (ticket.getBusinessPriority().toString().equalsIgnoreCase(filterValue)) {
-                filteredTickets.add(ticket);
+    public Predicate<Ticket> compile(final String filterValue) {
+        return ticket -> ticket.getBusinessPriority().toString().equalsIgnoreCase(filterValue);
+    }
+
+    @Override
+    public BitSet select(final TicketBuckets buckets, final String filterValue) {
+        for (final Ticket.BusinessPriority priority : Ticket.BusinessPriority.values()) {
+            if (priority.name().equalsIgnoreCase(filterValue)) {
+                return buckets.withPriority(priority);
             }
         }
-        return filteredTickets;
+        return new BitSet();
     }
 
     @Override
@@ -1,27 +1,36 @@
 package search.filters.impl;
 
+import search.filters.DateRangeFilter;
 import search.filters.TicketFilterStrategy;
 import tickets.Ticket;
-import java.util.List;
-import java.util.ArrayList;
 import java.time.LocalDate;
+import java.util.function.Predicate;
 
 /**
  * Filters tickets created after a specific date.
  */
-public final class CreatedAfterFilter implements TicketFilterStrategy {
+public final class CreatedAfterFilter implements TicketFilterStrategy, DateRangeFilter {
+    private static final int COST = 2;
 
     @Override
-    public List<Ticket> filter(final List<Ticket> tickets, final String filterValue) {
-        final List<Ticket> filteredTickets = new ArrayList<>();
-        final LocalDate targetDate = LocalDate.parse(filterValue);
+    public Predicate<Ticket> compile(final String filterValue) {
+        final long targetDay = LocalDate.parse(filterValue).toEpochDay();
+        return ticket -> ticket.getCreatedDay() > targetDay;
+    }
+
+    @Override
+    public int cost() {
+        return COST;
+    }
 
-        for (final Ticket ticket : tickets) {
-            if (LocalDate.parse(ticket.getCreatedAt()).isAfter(targetDate)) {
-                filteredTickets.add(ticket);
-            }
-        }
-        return filteredTickets;
+    @Override
+    public long firstDay(final String filterValue) {
+        return LocalDate.parse(filterValue).toEpochDay() + 1;
+    }
+
+    @Override
+    public long lastDay(final String filterValue) {
+        return Long.MAX_VALUE;
     }
 
     @Override
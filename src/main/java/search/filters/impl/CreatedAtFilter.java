@@ -1,27 +1,30 @@
 package search.filters.impl;
 
+import search.filters.DateRangeFilter;
 import search.filters.TicketFilterStrategy;
 import tickets.Ticket;
-import java.util.List;
-import java.util.ArrayList;
 import java.time.LocalDate;
+import java.util.function.Predicate;
 
 /**
  * Filters tickets created on a specific date.
  */
-public final class CreatedAtFilter implements TicketFilterStrategy {
+public final class CreatedAtFilter implements TicketFilterStrategy, DateRangeFilter {
 
     @Override
-    public List<Ticket> filter(final List<Ticket> tickets, final String filterValue) {
-        final List<Ticket> filteredTickets = new ArrayList<>();
-        final LocalDate targetDate = LocalDate.parse(filterValue);
+    public Predicate<Ticket> compile(final String filterValue) {
+        final long targetDay = LocalDate.parse(filterValue).toEpochDay();
+        return ticket -> ticket.getCreatedDay() == targetDay;
+    }
 
-        for (final Ticket ticket : tickets) {
-            if (ticket.getCreatedAt().equals(targetDate.toString())) {
-                filteredTickets.add(ticket);
-            }
-        }
-        return filteredTickets;
+    @Override
+    public long firstDay(final String filterValue) {
+        return LocalDate.parse(filterValue).toEpochDay();
+    }
+
+    @Override
+    public long lastDay(final String filterValue) {
+        return LocalDate.parse(filterValue).toEpochDay();
     }
 
     @Override
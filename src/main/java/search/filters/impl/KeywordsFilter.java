@@ -1,28 +1,55 @@
 package search.filters.impl;
 
 import search.filters.TicketFilterStrategy;
+import search.index.KeywordIndex;
 import tickets.Ticket;
+import java.util.BitSet;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Filters tickets based on keywords found in title or description.
  */
 public final class KeywordsFilter implements TicketFilterStrategy {
+    private static final int COST = 10;
+
+    private final KeywordIndex index;
+
+    /**
+     * Constructor.
+     * @param index The token index used to skip tickets that can't match.
+     */
+    public KeywordsFilter(final KeywordIndex index) {
+        this.index = index;
+    }
 
     @Override
-    public List<Ticket> filter(final List<Ticket> tickets, final String filterValue) {
-        final List<Ticket> filteredTickets = new ArrayList<>();
+    public Predicate<Ticket> compile(final String filterValue) {
+        final Function<Ticket, List<String>> matcher = matcher(filterValue);
+        return ticket -> !matcher.apply(ticket).isEmpty();
+    }
+
+    /**
+     * Compiles a filter value into a function that finds its keywords in a
+     * ticket.
+     *
+     * @param filterValue The keywords, as a JSON array
+     * @return A function giving the keywords a ticket contains, in filter
+     *         order, or an empty list if it contains none
+     */
+    public Function<Ticket, List<String>> matcher(final String filterValue) {
         final String[] keywords = parseKeywords(filterValue);
+        final BitSet candidates = index.candidates(keywords);
+        return ticket -> candidates != null && !candidates.get(ticket.getId())
+                ? List.of()
+                : findMatchingWords(ticket, keywords);
+    }
 
-        for (final Ticket ticket : tickets) {
-            final List<String> matchingWords = findMatchingWords(ticket, keywords);
-            if (!matchingWords.isEmpty()) {
-                ticket.setMatchingWords(matchingWords);
-                filteredTickets.add(ticket);
-            }
-        }
-        return filteredTickets;
+    @Override
+    public int cost() {
+        return COST;
     }
 
     private String[] parseKeywords(final String jsonArray) {
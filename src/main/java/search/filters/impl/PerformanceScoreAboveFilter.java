@@ -2,8 +2,7 @@ package search.filters.impl;
 
 import search.filters.DeveloperFilterStrategy;
 import users.Developer;
-import java.util.List;
-import java.util.ArrayList;
+import java.util.function.Predicate;
 
 /**
  * Filters developers with a performance score above a certain threshold.
@@ -11,16 +10,9 @@ import java.util.ArrayList;
 public final class PerformanceScoreAboveFilter implements DeveloperFilterStrategy {
 
     @Override
-    public List<Developer> filter(final List<Developer> developers, final String filterValue) {
-        final List<Developer> filteredDevelopers = new ArrayList<>();
+    public Predicate<Developer> compile(final String filterValue) {
         final double minScore = Double.parseDouble(filterValue);
-
-        for (final Developer developer : developers) {
-            if (developer.getPerformanceScore() >= minScore) {
-                filteredDevelopers.add(developer);
-            }
-        }
-        return filteredDevelopers;
+        return developer -> developer.getPerformanceScore() >= minScore;
     }
 
     @Override
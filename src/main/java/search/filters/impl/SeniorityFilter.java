@@ -2,8 +2,7 @@ package search.filters.impl;
 
 import search.filters.DeveloperFilterStrategy;
 import users.Developer;
-import java.util.List;
-import java.util.ArrayList;
+import java.util.function.Predicate;
 
 /**
  * Filters developers based on their seniority level.
@@ -11,15 +10,8 @@ import java.util.ArrayList;
 public final class SeniorityFilter implements DeveloperFilterStrategy {
 
     @Override
-    public List<Developer> filter(final List<Developer> developers, final String filterValue) {
-        final List<Developer> filteredDevelopers = new ArrayList<>();
-
-        for (final Developer developer : developers) {
-            if (developer.getSeniority().toString().equalsIgnoreCase(filterValue)) {
-                filteredDevelopers.add(developer);
-            }
-        }
-        return filteredDevelopers;
+    public Predicate<Developer> compile(final String filterValue) {
+        return developer -> developer.getSeniority().toString().equalsIgnoreCase(filterValue);
     }
 
     @Override
@@ -1,24 +1,30 @@
 package search.filters.impl;
 
+import database.TicketBuckets;
+import search.filters.BucketFilter;
 import search.filters.TicketFilterStrategy;
 import tickets.Ticket;
-import java.util.List;
-import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.function.Predicate;
 
 /**
  * Filters tickets based on their type (e.g., BUG, FEATURE_REQUEST).
  */
-public final class TypeFilter implements TicketFilterStrategy {
+public final class TypeFilter implements TicketFilterStrategy, BucketFilter {
 
     @Override
-    public List<Ticket> filter(final List<Ticket> tickets, final String filterValue) {
-        final List<Ticket> filteredTickets = new ArrayList<>();
-        for (final Ticket ticket : tickets) {
-            if (ticket.getType().toString().equalsIgnoreCase(filterValue)) {
-                filteredTickets.add(ticket);
+    public Predicate<Ticket> compile(final String filterValue) {
+        return ticket -> ticket.getType().toString().equalsIgnoreCase(filterValue);
+    }
+
+    @Override
+    public BitSet select(final TicketBuckets buckets, final String filterValue) {
+        for (final Ticket.TicketType type : Ticket.TicketType.values()) {
+            if (type.name().equalsIgnoreCase(filterValue)) {
+                return buckets.ofType(type);
             }
         }
-        return filteredTickets;
+        return new BitSet();
     }
 
     @Override
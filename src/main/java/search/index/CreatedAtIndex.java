@@ -0,0 +1,92 @@
+package search.index;
+
+import tickets.Ticket;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Ticket IDs ordered by creation date, then by ID.
+ * Tickets are usually reported in date order, so adding one is an append;
+ * a date range is found with two binary searches.
+ */
+public final class CreatedAtIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] days = new long[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds a ticket to the index.
+     *
+     * @param ticket The ticket to add
+     */
+    public void add(final Ticket ticket) {
+        final long day = ticket.getCreatedDay();
+        final int id = ticket.getId();
+        if (size == days.length) {
+            days = Arrays.copyOf(days, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+
+        int position = size;
+        while (position > 0 && (days[position - 1] > day
+                || (days[position - 1] == day && ids[position - 1] > id))) {
+            position--;
+        }
+        System.arraycopy(days, position, days, position + 1, size - position);
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        days[position] = day;
+        ids[position] = id;
+        size++;
+    }
+
+    /**
+     * Gets the position of the first ticket created on or after a day.
+     *
+     * @param day The day, as an epoch day
+     * @return The position, or the number of tickets if there is none
+     */
+    public int lowerBound(final long day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (days[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets the tickets created between two days.
+     *
+     * @param from The first day, as an epoch day (included)
+     * @param to   The last day, as an epoch day (included)
+     * @return The IDs of the tickets in the range
+     */
+    public BitSet range(final long from, final long to) {
+        final BitSet result = new BitSet();
+        if (from > to) {
+            return result;
+        }
+        final int end = to == Long.MAX_VALUE ? size : lowerBound(to + 1);
+        for (int i = lowerBound(from); i < end; i++) {
+            result.set(ids[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Removes every ticket from the index.
+     */
+    public void clear() {
+        days = new long[INITIAL_CAPACITY];
+        ids = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+}
@@ -0,0 +1,106 @@
+package search.index;
+
+import tickets.Ticket;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * N-gram index over ticket titles and descriptions.
+ * The text is lowercased and split on spaces, and every substring of up to
+ * {@value #GRAM} characters of every token maps to the IDs of the tickets
+ * that contain it. A token of length L adds at most {@value #GRAM} * L keys
+ * of at most {@value #GRAM} characters each, so the index grows linearly
+ * with the text. Keywords never contain spaces, so a ticket containing a
+ * keyword contains every n-gram of it.
+ */
+public final class KeywordIndex {
+    /** Length of the longest indexed substring. */
+    static final int GRAM = 3;
+
+    private final Map<String, BitSet> grams = new HashMap<>();
+
+    /**
+     * Indexes the title and description of a ticket.
+     *
+     * @param ticket The ticket to index
+     */
+    public void add(final Ticket ticket) {
+        addText(ticket.getId(), ticket.getTitle());
+        addText(ticket.getId(), ticket.getDescription());
+    }
+
+    private void addText(final int ticketId, final String text) {
+        if (text == null) {
+            return;
+        }
+        for (final String token : text.toLowerCase().split(" ")) {
+            for (int start = 0; start < token.length(); start++) {
+                final int last = Math.min(start + GRAM, token.length());
+                for (int end = start + 1; end <= last; end++) {
+                    grams.computeIfAbsent(token.substring(start, end), key -> new BitSet())
+                            .set(ticketId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the tickets whose text may contain one of the keywords.
+     * A keyword of up to {@value #GRAM} characters is a single lookup; a
+     * longer one intersects the tickets of each of its n-grams. The result
+     * is a superset of the matching tickets: the n-grams of a long keyword
+     * can come from different places in the text, so a match still has to
+     * be confirmed against the ticket's text.
+     *
+     * @param keywords The keywords to look up
+     * @return The candidate ticket IDs, or null if the index can't narrow
+     *         the search (an empty keyword matches every text)
+     */
+    public BitSet candidates(final String[] keywords) {
+        final BitSet result = new BitSet();
+        for (final String keyword : keywords) {
+            if (keyword.isEmpty()) {
+                return null;
+            }
+            final BitSet matches = lookup(keyword.toLowerCase());
+            if (matches != null) {
+                result.or(matches);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the tickets that contain every n-gram of a keyword.
+     *
+     * @param keyword The lowercased, non-empty keyword
+     * @return The ticket IDs, or null if an n-gram is not indexed
+     */
+    private BitSet lookup(final String keyword) {
+        if (keyword.length() <= GRAM) {
+            return grams.get(keyword);
+        }
+        BitSet matches = null;
+        for (int start = 0; start + GRAM <= keyword.length(); start++) {
+            final BitSet tickets = grams.get(keyword.substring(start, start + GRAM));
+            if (tickets == null) {
+                return null;
+            }
+            if (matches == null) {
+                matches = (BitSet) tickets.clone();
+            } else {
+                matches.and(tickets);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Removes every ticket from the index.
+     */
+    public void clear() {
+        grams.clear();
+    }
+}
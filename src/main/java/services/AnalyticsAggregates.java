@@ -0,0 +1,314 @@
+package services;
+
+import database.TicketColumns;
+import mathutils.MathUtil;
+import tickets.Ticket;
+import tickets.Ticket.BusinessPriority;
+import tickets.Ticket.Status;
+import tickets.Ticket.TicketType;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Running counts behind the analytics reports. Every ticket contributes its
+ * row of the {@link TicketColumns} to either the active (OPEN, IN_PROGRESS)
+ * or the resolved (RESOLVED, CLOSED) totals. When a ticket changes, its old
+ * row is taken out of the totals, the row is rewritten and added back, so
+ * the counts are a constant-time read and the columns are the only
+ * per-ticket copy of the scores.
+ *
+ * <p>The reports round score averages to cents and compare them against
+ * whole numbers, so the score sums are not kept running: adding and taking
+ * out doubles drifts. {@link #sumScores} adds them up at report time in one
+ * pass over the columns, in ticket ID order like the per-ticket loops did.</p>
+ */
+public final class AnalyticsAggregates {
+    private static final TicketType[] TYPES = TicketType.values();
+    private static final BusinessPriority[] PRIORITIES = BusinessPriority.values();
+
+    private final TicketColumns columns;
+    private final Totals active;
+    private final Totals resolved;
+
+    /**
+     * Creates empty totals.
+     *
+     * @param columns The ticket columns the totals are built from; they are
+     *                written by {@link #update}
+     */
+    public AnalyticsAggregates(final TicketColumns columns) {
+        this.columns = columns;
+        this.active = new Totals(columns, new Metric[] {Metric.IMPACT, Metric.RISK},
+                Status.OPEN, Status.IN_PROGRESS);
+        this.resolved = new Totals(columns, new Metric[] {Metric.EFFICIENCY},
+                Status.RESOLVED, Status.CLOSED);
+    }
+
+    /**
+     * Score of a ticket that goes into the report sums.
+     */
+    public enum Metric {
+        IMPACT,
+        RISK,
+        EFFICIENCY
+    }
+
+    /**
+     * Counts of one set of tickets.
+     */
+    public static final class Totals {
+        private final TicketColumns columns;
+        private final Metric[] metrics;
+        private final boolean[] statuses = new boolean[Status.values().length];
+        private int count;
+        private final int[] byType = new int[TYPES.length];
+        private final int[] byPriority = new int[PRIORITIES.length];
+
+        /**
+         * Creates empty totals.
+         *
+         * @param columns  The ticket columns
+         * @param metrics  The scores summed for the set
+         * @param statuses The statuses of the tickets in the set
+         */
+        private Totals(final TicketColumns columns, final Metric[] metrics,
+                final Status... statuses) {
+            this.columns = columns;
+            this.metrics = metrics;
+            for (final Status status : statuses) {
+                this.statuses[status.ordinal()] = true;
+            }
+            clear();
+        }
+
+        /**
+         * Gets the number of tickets in the set.
+         *
+         * @return The ticket count
+         */
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Gets the number of tickets of a type.
+         *
+         * @param type The ticket type
+         * @return The ticket count
+         */
+        public int count(final TicketType type) {
+            return byType[type.ordinal()];
+        }
+
+        /**
+         * Gets the number of tickets with a business priority.
+         *
+         * @param priority The priority
+         * @return The ticket count
+         */
+        public int count(final BusinessPriority priority) {
+            return byPriority[priority.ordinal()];
+        }
+
+        /**
+         * Gets the average of a score over the tickets of a type.
+         *
+         * @param sums   The score sums of the current tickets
+         * @param metric The score
+         * @param type   The ticket type
+         * @return The average, or 0 if there are no tickets of the type
+         */
+        public double average(final Sums sums, final Metric metric, final TicketType type) {
+            return MathUtil.average(sums.sum(metric, type), byType[type.ordinal()]);
+        }
+
+        /**
+         * Checks whether the tickets with a status belong to the set.
+         *
+         * @param status The status ordinal
+         * @return Whether the set holds the status
+         */
+        private boolean holds(final byte status) {
+            return statuses[status];
+        }
+
+        /**
+         * Checks whether a score is summed for the set.
+         *
+         * @param metric The score
+         * @return Whether the set holds the score
+         */
+        private boolean measures(final Metric metric) {
+            return Arrays.asList(metrics).contains(metric);
+        }
+
+        private double[] scores(final Metric metric) {
+            return switch (metric) {
+                case IMPACT -> columns.impact();
+                case RISK -> columns.risk();
+                case EFFICIENCY -> columns.efficiency();
+            };
+        }
+
+        /**
+         * Adds or takes out the current row of a ticket.
+         *
+         * @param id   The ticket ID
+         * @param sign 1 to add the row, -1 to take it out
+         */
+        private void apply(final int id, final int sign) {
+            count += sign;
+            byType[columns.type()[id]] += sign;
+            byPriority[columns.priority()[id]] += sign;
+        }
+
+        private void clear() {
+            count = 0;
+            Arrays.fill(byType, 0);
+            Arrays.fill(byPriority, 0);
+        }
+    }
+
+    /**
+     * Score sums of the current tickets, per score and ticket type.
+     */
+    public final class Sums {
+        private final IntFunction<Ticket> tickets;
+        private final double[][] sums = new double[Metric.values().length][TYPES.length];
+        private final boolean[][] missing =
+                new boolean[Metric.values().length][TYPES.length];
+
+        private Sums(final IntFunction<Ticket> tickets) {
+            this.tickets = tickets;
+        }
+
+        /**
+         * Gets the sum of a score over the tickets of a type. When a score
+         * is missing from the columns, the sum is added up again and the
+         * missing scores are asked from the tickets themselves.
+         *
+         * @param metric The score
+         * @param type   The ticket type
+         * @return The sum, added in ticket ID order
+         */
+        public double sum(final Metric metric, final TicketType type) {
+            final int m = metric.ordinal();
+            final int t = type.ordinal();
+            if (missing[m][t]) {
+                sums[m][t] = sumWithTickets(metric, t, tickets);
+                missing[m][t] = false;
+            }
+            return sums[m][t];
+        }
+    }
+
+    /**
+     * Sums the scores of both sets in one pass over the columns, one ticket
+     * at a time in ID order.
+     *
+     * @param tickets Gets a ticket by ID, for the scores missing from the
+     *                columns, such as the efficiency of a resolved ticket
+     *                without a solve date
+     * @return The sums
+     */
+    public Sums sumScores(final IntFunction<Ticket> tickets) {
+        final Sums result = new Sums(tickets);
+        final byte[] types = columns.type();
+        for (int id = 0; id < columns.size(); id++) {
+            if (!columns.contains(id)) {
+                continue;
+            }
+            final Totals totals = totalsOf(id);
+            for (final Metric metric : totals.metrics) {
+                final double score = totals.scores(metric)[id];
+                if (Double.isNaN(score)) {
+                    result.missing[metric.ordinal()][types[id]] = true;
+                } else {
+                    result.sums[metric.ordinal()][types[id]] += score;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sums one score over the tickets of a type in ID order, asking the
+     * tickets for the scores missing from the columns.
+     *
+     * @param metric  The score
+     * @param type    The ticket type ordinal
+     * @param tickets Gets a ticket by ID
+     * @return The sum
+     */
+    private double sumWithTickets(final Metric metric, final int type,
+            final IntFunction<Ticket> tickets) {
+        final byte[] types = columns.type();
+        double sum = 0;
+        for (int id = 0; id < columns.size(); id++) {
+            if (!columns.contains(id) || types[id] != type) {
+                continue;
+            }
+            final Totals totals = totalsOf(id);
+            if (!totals.measures(metric)) {
+                continue;
+            }
+            final double score = totals.scores(metric)[id];
+            sum += Double.isNaN(score) ? scoreOf(tickets.apply(id), metric) : score;
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the totals of the OPEN and IN_PROGRESS tickets.
+     *
+     * @return The active totals
+     */
+    public Totals active() {
+        return active;
+    }
+
+    /**
+     * Gets the totals of the RESOLVED and CLOSED tickets.
+     *
+     * @return The resolved totals
+     */
+    public Totals resolved() {
+        return resolved;
+    }
+
+    /**
+     * Adds a ticket, or replaces its row after it changed.
+     *
+     * @param ticket The ticket
+     */
+    public void update(final Ticket ticket) {
+        final int id = ticket.getId();
+        if (columns.contains(id)) {
+            totalsOf(id).apply(id, -1);
+        }
+        columns.update(ticket);
+        totalsOf(id).apply(id, 1);
+    }
+
+    /**
+     * Removes every ticket.
+     */
+    public void clear() {
+        columns.clear();
+        active.clear();
+        resolved.clear();
+    }
+
+    private Totals totalsOf(final int id) {
+        return active.holds(columns.status()[id]) ? active : resolved;
+    }
+
+    private static double scoreOf(final Ticket ticket, final Metric metric) {
+        return switch (metric) {
+            case IMPACT -> ticket.getImpact();
+            case RISK -> ticket.getRisk();
+            case EFFICIENCY -> ticket.getEfficiency();
+        };
+    }
+}
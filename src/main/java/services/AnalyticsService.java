@@ -1,18 +1,18 @@
 package services;
 
-import tickets.Ticket;
+import tickets.Ticket.BusinessPriority;
+import tickets.Ticket.TicketType;
+import services.AnalyticsAggregates.Metric;
+import services.AnalyticsAggregates.Sums;
+import services.AnalyticsAggregates.Totals;
 import java.util.List;
 import java.util.ArrayList;
 import mathutils.MathUtil;
 
-import database.Database;
-
 /**
  * Service class for calculating analytics and statistics.
  */
 public final class AnalyticsService {
-    private static final Database DB = Database.getInstance();
-
     private static final int RISK_NEGLIGIBLE_MAX = 24;
     private static final int RISK_MODERATE_MIN = 25;
     private static final int RISK_MODERATE_MAX = 49;
@@ -29,302 +29,115 @@ public final class AnalyticsService {
     }
 
     /**
-     * Calculates customer impact metrics based on a list of tickets.
+     * Calculates customer impact metrics from the running totals of the
+     * active tickets.
      *
-     * @param tickets The list of tickets to analyze.
+     * @param aggregates The running totals.
+     * @param sums       The score sums of the current tickets.
      * @return A list containing impact statistics.
      */
-    public static List<Number> getCustomerImpact(final List<Ticket> tickets) {
+    public static List<Number> getCustomerImpact(final AnalyticsAggregates aggregates,
+            final Sums sums) {
+        final Totals totals = aggregates.active();
         final List<Number> report = new ArrayList<>();
-
-        int totalTickets = 0;
-
-        int bugCount = 0;
-        int featureRequestCount = 0;
-        int uiFeedbackCount = 0;
-
-        int lowPriority = 0;
-        int mediumPriority = 0;
-        int highPriority = 0;
-        int criticalPriority = 0;
-
-        double bugImpact = 0.0;
-        double featureRequestImpact = 0.0;
-        double uiFeedbackImpact = 0.0;
-
-        for (final Ticket ticket : tickets) {
-            if (ticket.getStatus().name().equals("RESOLVED")) {
-                continue;
-            }
-            if (ticket.getStatus().name().equals("CLOSED")) {
-                continue;
-            }
-            totalTickets++;
-            final String type = ticket.getType();
-            final String priority = ticket.getBusinessPriority().name();
-            final double impact = ticket.getImpact();
-
-            switch (type) {
-                case "BUG":
-                    bugCount++;
-                    bugImpact += impact;
-                    break;
-                case "FEATURE_REQUEST":
-                    featureRequestCount++;
-                    featureRequestImpact += impact;
-                    break;
-                case "UI_FEEDBACK":
-                    uiFeedbackCount++;
-                    uiFeedbackImpact += impact;
-                    break;
-                default:
-                    break;
-            }
-
-            switch (priority) {
-                case "LOW":
-                    lowPriority++;
-                    break;
-                case "MEDIUM":
-                    mediumPriority++;
-                    break;
-                case "HIGH":
-                    highPriority++;
-                    break;
-                case "CRITICAL":
-                    criticalPriority++;
-                    break;
-                default:
-                    break;
-            }
+        addCounts(report, totals);
+        for (final TicketType type : TicketType.values()) {
+            report.add(MathUtil.round(totals.average(sums, Metric.IMPACT, type)));
         }
-        report.add(totalTickets);
-
-        report.add(bugCount);
-        report.add(featureRequestCount);
-        report.add(uiFeedbackCount);
-
-        report.add(lowPriority);
-        report.add(mediumPriority);
-        report.add(highPriority);
-        report.add(criticalPriority);
-
-        report.add(MathUtil.round(MathUtil.average(bugImpact, bugCount)));
-        report.add(MathUtil.round(MathUtil.average(featureRequestImpact, featureRequestCount)));
-        report.add(MathUtil.round(MathUtil.average(uiFeedbackImpact, uiFeedbackCount)));
-
         return report;
     }
 
     /**
-     * Calculates resolution efficiency metrics based on a list of tickets.
+     * Calculates resolution efficiency metrics from the running totals of
+     * the resolved tickets.
      *
-     * @param tickets The list of tickets to analyze.
+     * @param aggregates The running totals.
+     * @param sums       The score sums of the current tickets.
      * @return A list containing efficiency statistics.
      */
-    public static List<Number> getResolutionEfficiency(final List<Ticket> tickets) {
+    public static List<Number> getResolutionEfficiency(final AnalyticsAggregates aggregates,
+            final Sums sums) {
+        final Totals totals = aggregates.resolved();
         final List<Number> report = new ArrayList<>();
-
-        int totalTickets = 0;
-
-        int bugCount = 0;
-        int featureRequestCount = 0;
-        int uiFeedbackCount = 0;
-
-        int lowPriority = 0;
-        int mediumPriority = 0;
-        int highPriority = 0;
-        int criticalPriority = 0;
-
-        double bugImpact = 0.0;
-        double featureRequestImpact = 0.0;
-        double uiFeedbackImpact = 0.0;
-
-        for (final Ticket ticket : tickets) {
-            if (ticket.getStatus().name().equals("OPEN")) {
-                continue;
-            }
-            if (ticket.getStatus().name().equals("IN_PROGRESS")) {
-                continue;
-            }
-            totalTickets++;
-            final String type = ticket.getType();
-            final String priority = ticket.getBusinessPriority().name();
-            final double impact = ticket.getEfficiency();
-
-            switch (type) {
-                case "BUG":
-                    bugCount++;
-                    bugImpact += impact;
-                    break;
-                case "FEATURE_REQUEST":
-                    featureRequestCount++;
-                    featureRequestImpact += impact;
-                    break;
-                case "UI_FEEDBACK":
-                    uiFeedbackCount++;
-                    uiFeedbackImpact += impact;
-                    break;
-                default:
-                    break;
-            }
-
-            switch (priority) {
-                case "LOW":
-                    lowPriority++;
-                    break;
-                case "MEDIUM":
-                    mediumPriority++;
-                    break;
-                case "HIGH":
-                    highPriority++;
-                    break;
-                case "CRITICAL":
-                    criticalPriority++;
-                    break;
-                default:
-                    break;
-            }
+        addCounts(report, totals);
+        for (final TicketType type : TicketType.values()) {
+            report.add(MathUtil.round(totals.average(sums, Metric.EFFICIENCY, type)));
         }
-        report.add(totalTickets);
-
-        report.add(bugCount);
-        report.add(featureRequestCount);
-        report.add(uiFeedbackCount);
-
-        report.add(lowPriority);
-        report.add(mediumPriority);
-        report.add(highPriority);
-        report.add(criticalPriority);
-
-        report.add(MathUtil.round(MathUtil.average(bugImpact, bugCount)));
-        report.add(MathUtil.round(MathUtil.average(featureRequestImpact, featureRequestCount)));
-        report.add(MathUtil.round(MathUtil.average(uiFeedbackImpact, uiFeedbackCount)));
-
         return report;
     }
 
     /**
-     * Calculates application stability metrics based on open and in-progress
-     * tickets.
+     * Calculates application stability metrics from the running totals of
+     * the active tickets.
      *
+     * @param aggregates The running totals.
+     * @param sums       The score sums of the current tickets.
      * @return A list containing stability statistics.
      */
-    public List<Object> getAppStability() {
+    public List<Object> getAppStability(final AnalyticsAggregates aggregates,
+            final Sums sums) {
+        final Totals totals = aggregates.active();
         final List<Object> report = new ArrayList<>();
+        addCounts(report, totals);
 
-        int totalOpenTickets = 0;
-        int bugCount = 0;
-        int featureRequestCount = 0;
-        int uiFeedbackCount = 0;
-
-        int lowPriority = 0;
-        int mediumPriority = 0;
-        int highPriority = 0;
-        int criticalPriority = 0;
-
-        double bugImpact = 0.0;
-        double featureRequestImpact = 0.0;
-        double uiFeedbackImpact = 0.0;
-
-        double bugRiskScore = 0.0;
-        double featureRequestRiskScore = 0.0;
-        double uiFeedbackRiskScore = 0.0;
-
-        for (final Ticket ticket : DB.getTickets()) {
-            if (!ticket.getStatus().name().equals("OPEN")
-                    && !ticket.getStatus().name().equals("IN_PROGRESS")) {
-                continue;
-            }
-
-            totalOpenTickets++;
-            final String type = ticket.getType();
-            final String priority = ticket.getBusinessPriority().name();
-
-            switch (type) {
-                case "BUG":
-                    bugCount++;
-                    bugImpact += ticket.getImpact();
-                    bugRiskScore += ticket.getRisk();
-                    break;
-                case "FEATURE_REQUEST":
-                    featureRequestCount++;
-                    featureRequestImpact += ticket.getImpact();
-                    featureRequestRiskScore += ticket.getRisk();
-                    break;
-                case "UI_FEEDBACK":
-                    uiFeedbackCount++;
-                    uiFeedbackImpact += ticket.getImpact();
-                    uiFeedbackRiskScore += ticket.getRisk();
-                    break;
-                default:
-                    break;
-            }
-
-            switch (priority) {
-                case "LOW":
-                    lowPriority++;
-                    break;
-                case "MEDIUM":
-                    mediumPriority++;
-                    break;
-                case "HIGH":
-                    highPriority++;
-                    break;
-                case "CRITICAL":
-                    criticalPriority++;
-                    break;
-                default:
-                    break;
-            }
+        final String[] riskLevels = new String[TicketType.values().length];
+        final double[] impacts = new double[TicketType.values().length];
+        for (final TicketType type : TicketType.values()) {
+            riskLevels[type.ordinal()] = getRiskLevel(totals.average(sums, Metric.RISK, type));
+            impacts[type.ordinal()] = totals.average(sums, Metric.IMPACT, type);
+        }
+        for (final String riskLevel : riskLevels) {
+            report.add(riskLevel);
+        }
+        for (final double impact : impacts) {
+            report.add(MathUtil.round(impact));
         }
 
-        report.add(totalOpenTickets);
-
-        report.add(bugCount);
-        report.add(featureRequestCount);
-        report.add(uiFeedbackCount);
-
-        report.add(lowPriority);
-        report.add(mediumPriority);
-        report.add(highPriority);
-        report.add(criticalPriority);
-
-        final double avgBugRisk = bugCount > 0 ? bugRiskScore / bugCount : 0;
-        final double avgFeatureRisk = featureRequestCount > 0
-                ? featureRequestRiskScore / featureRequestCount
-                : 0;
-        final double avgUIRisk = uiFeedbackCount > 0
-                ? uiFeedbackRiskScore / uiFeedbackCount
-                : 0;
-
-        final String bugRiskLevel = getRiskLevel(avgBugRisk);
-        final String featureRiskLevel = getRiskLevel(avgFeatureRisk);
-        final String uiRiskLevel = getRiskLevel(avgUIRisk);
-
-        report.add(bugRiskLevel);
-        report.add(featureRiskLevel);
-        report.add(uiRiskLevel);
-
-        final double avgBugImpact = bugCount > 0 ? bugImpact / bugCount : 0;
-        final double avgFeatureImpact = featureRequestCount > 0
-                ? featureRequestImpact / featureRequestCount
-                : 0;
-        final double avgUIImpact = uiFeedbackCount > 0
-                ? uiFeedbackImpact / uiFeedbackCount
-                : 0;
-
-        report.add(MathUtil.round(avgBugImpact));
-        report.add(MathUtil.round(avgFeatureImpact));
-        report.add(MathUtil.round(avgUIImpact));
-
-        final String appStability = determineStability(bugRiskLevel, featureRiskLevel, uiRiskLevel,
-                avgBugImpact, avgFeatureImpact, avgUIImpact);
-        report.add(appStability);
+        report.add(determineStability(riskLevels[TicketType.BUG.ordinal()],
+                riskLevels[TicketType.FEATURE_REQUEST.ordinal()],
+                riskLevels[TicketType.UI_FEEDBACK.ordinal()],
+                impacts[TicketType.BUG.ordinal()],
+                impacts[TicketType.FEATURE_REQUEST.ordinal()],
+                impacts[TicketType.UI_FEEDBACK.ordinal()]));
+        return report;
+    }
 
+    /**
+     * Calculates ticket risk metrics from the running totals of the active
+     * tickets.
+     *
+     * @param aggregates The running totals.
+     * @param sums       The score sums of the current tickets.
+     * @return A list containing risk statistics.
+     */
+    public List<Object> getTicketRisk(final AnalyticsAggregates aggregates,
+            final Sums sums) {
+        final Totals totals = aggregates.active();
+        final List<Object> report = new ArrayList<>();
+        addCounts(report, totals);
+        for (final TicketType type : TicketType.values()) {
+            report.add(getRiskLevel(MathUtil.round(totals.average(sums, Metric.RISK, type))));
+        }
         return report;
     }
 
+    /**
+     * Adds the total, per-type and per-priority ticket counts that open
+     * every report.
+     *
+     * @param report The report to add to.
+     * @param totals The totals to read.
+     */
+    private static void addCounts(final List<? super Integer> report, final Totals totals) {
+        report.add(totals.count());
+        for (final TicketType type : TicketType.values()) {
+            report.add(totals.count(type));
+        }
+        for (final BusinessPriority priority : BusinessPriority.values()) {
+            report.add(totals.count(priority));
+        }
+    }
+
     private String getRiskLevel(final double impact) {
         if (impact >= 0 && impact <= RISK_NEGLIGIBLE_MAX) {
             return "NEGLIGIBLE";
@@ -370,100 +183,4 @@ public final class AnalyticsService {
 
         return "PARTIALLY STABLE";
     }
-
-    /**
-     * Calculates ticket risk metrics for all tickets in the database.
-     *
-     * @return A list containing risk statistics.
-     */
-    public List<Object> getTicketRisk() {
-        final List<Object> report = new ArrayList<>();
-
-        int totalTickets = 0;
-
-        int bugCount = 0;
-        int featureRequestCount = 0;
-        int uiFeedbackCount = 0;
-
-        int lowPriority = 0;
-        int mediumPriority = 0;
-        int highPriority = 0;
-        int criticalPriority = 0;
-
-        double bugImpact = 0.0;
-        double featureRequestImpact = 0.0;
-        double uiFeedbackImpact = 0.0;
-
-        for (final Ticket ticket : DB.getTickets()) {
-            if (ticket.getStatus().name().equals("RESOLVED")) {
-                continue;
-            }
-            if (ticket.getStatus().name().equals("CLOSED")) {
-                continue;
-            }
-            totalTickets++;
-            final String type = ticket.getType();
-            final String priority = ticket.getBusinessPriority().name();
-            final double impact = ticket.getRisk();
-
-            switch (type) {
-                case "BUG":
-                    bugCount++;
-                    bugImpact += impact;
-                    break;
-                case "FEATURE_REQUEST":
-                    featureRequestCount++;
-                    featureRequestImpact += impact;
-                    break;
-                case "UI_FEEDBACK":
-                    uiFeedbackCount++;
-                    uiFeedbackImpact += impact;
-                    break;
-                default:
-                    break;
-            }
-
-            switch (priority) {
-                case "LOW":
-                    lowPriority++;
-                    break;
-                case "MEDIUM":
-                    mediumPriority++;
-                    break;
-                case "HIGH":
-                    highPriority++;
-                    break;
-                case "CRITICAL":
-                    criticalPriority++;
-                    break;
-                default:
-                    break;
-            }
-        }
-        report.add(totalTickets);
-
-        report.add(bugCount);
-        report.add(featureRequestCount);
-        report.add(uiFeedbackCount);
-
-        report.add(lowPriority);
-        report.add(mediumPriority);
-        report.add(highPriority);
-        report.add(criticalPriority);
-
-        bugImpact = (MathUtil.round(MathUtil.average(bugImpact, bugCount)));
-        featureRequestImpact = (MathUtil.round(MathUtil
-                .average(featureRequestImpact, featureRequestCount)));
-        uiFeedbackImpact = (MathUtil.round(MathUtil.average(uiFeedbackImpact, uiFeedbackCount)));
-
-        final String bugRiskLevel = getRiskLevel(bugImpact);
-        final String featureRequestRiskLevel = getRiskLevel(featureRequestImpact);
-        final String uiFeedbackRiskLevel = getRiskLevel(uiFeedbackImpact);
-
-        report.add(bugRiskLevel);
-        report.add(featureRequestRiskLevel);
-        report.add(uiFeedbackRiskLevel);
-
-        return report;
-    }
 }
@@ -0,0 +1,112 @@
+package services;
+
+import lombok.Getter;
+import services.AnalyticsAggregates.Sums;
+import tickets.Ticket;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * Produces the analytics reports from one set of totals and memoizes them
+ * until the tickets change, so a batch of report commands reads the running
+ * counts and shares a single pass over the ticket columns for the score sums.
+ */
+@Getter
+public final class ReportEngine {
+    private final AnalyticsAggregates aggregates;
+    private final IntFunction<Ticket> tickets;
+    private final Map<Report, List<?>> cached = new EnumMap<>(Report.class);
+    private Sums sums;
+
+    /**
+     * The reports the engine produces.
+     */
+    public enum Report {
+        CUSTOMER_IMPACT,
+        TICKET_RISK,
+        RESOLUTION_EFFICIENCY,
+        APP_STABILITY
+    }
+
+    /**
+     * Creates an engine.
+     *
+     * @param aggregates The running totals
+     * @param tickets    Gets a ticket by ID, for the scores missing from the
+     *                   columns
+     */
+    public ReportEngine(final AnalyticsAggregates aggregates,
+            final IntFunction<Ticket> tickets) {
+        this.aggregates = aggregates;
+        this.tickets = tickets;
+    }
+
+    /**
+     * Drops the memoized reports; called after every ticket mutation.
+     */
+    public void invalidate() {
+        cached.clear();
+        sums = null;
+    }
+
+    /**
+     * Gets the customer impact report.
+     *
+     * @return The report values
+     */
+    @SuppressWarnings("unchecked")
+    public List<Number> customerImpact() {
+        return (List<Number>) get(Report.CUSTOMER_IMPACT,
+                AnalyticsService::getCustomerImpact);
+    }
+
+    /**
+     * Gets the resolution efficiency report.
+     *
+     * @return The report values
+     */
+    @SuppressWarnings("unchecked")
+    public List<Number> resolutionEfficiency() {
+        return (List<Number>) get(Report.RESOLUTION_EFFICIENCY,
+                AnalyticsService::getResolutionEfficiency);
+    }
+
+    /**
+     * Gets the ticket risk report.
+     *
+     * @return The report values
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> ticketRisk() {
+        return (List<Object>) get(Report.TICKET_RISK,
+                (totals, scores) -> new AnalyticsService().getTicketRisk(totals, scores));
+    }
+
+    /**
+     * Gets the app stability report.
+     *
+     * @return The report values
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> appStability() {
+        return (List<Object>) get(Report.APP_STABILITY,
+                (totals, scores) -> new AnalyticsService().getAppStability(totals, scores));
+    }
+
+    private List<?> get(final Report report,
+            final BiFunction<AnalyticsAggregates, Sums, List<?>> build) {
+        List<?> result = cached.get(report);
+        if (result == null) {
+            if (sums == null) {
+                sums = aggregates.sumScores(tickets);
+            }
+            result = build.apply(aggregates, sums);
+            cached.put(report, result);
+        }
+        return result;
+    }
+}
@@ -1,8 +1,5 @@
 package tickets;
 
-import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-
 import mathutils.MathUtil;
 
 /**
@@ -76,9 +73,7 @@ public final class Bug extends Ticket {
             default -> SCORE_DEFAULT;
         };
 
-        int daysToResolve = -(int) ChronoUnit.DAYS.between(LocalDate.parse(this.getSolvedAt()),
-                LocalDate.parse(this.getAssignedAt()));
-        daysToResolve++;
+        final int daysToResolve = getResolutionDays();
 
         return MathUtil.normalize(((frequencyScore + severityScore) * EFFICIENCY_SCALE)
                 / daysToResolve, EFFICIENCY_NORM);
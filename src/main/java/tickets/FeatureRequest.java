@@ -1,8 +1,6 @@
 package tickets;
 
 import mathutils.MathUtil;
-import java.time.temporal.ChronoUnit;
-import java.time.LocalDate;
 
 /**
  * Represents a Feature Request ticket in the system.
@@ -105,9 +103,7 @@ public final class FeatureRequest extends Ticket {
             default -> SCORE_DEFAULT;
         };
 
-        int daysToResolve = -(int) ChronoUnit.DAYS.between(LocalDate.parse(this.getSolvedAt()),
-                LocalDate.parse(this.getAssignedAt()));
-        daysToResolve++;
+        final int daysToResolve = getResolutionDays();
 
         return MathUtil.normalize(((businessScore + customerScore) / daysToResolve),
                 NORM_EFFICIENCY);
@@ -4,8 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import io.CommandInput;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import mathutils.DateUtil;
 
 /**
  * Abstract class representing a generic Ticket.
@@ -35,6 +37,19 @@ public abstract class Ticket {
      */
     public abstract double getEfficiency();
 
+    /**
+     * Gets the days from assignment to solve, both included.
+     *
+     * @return the resolution time in days
+     * @throws IllegalStateException if the ticket is not assigned and solved
+     */
+    protected final int getResolutionDays() {
+        if (assignedDay == DateUtil.NO_DAY || solvedDay == DateUtil.NO_DAY) {
+            throw new IllegalStateException("ticket " + id + " is not assigned and solved");
+        }
+        return solvedDay - assignedDay + 1;
+    }
+
     /**
      * Enum for Business Priority.
      */
@@ -55,6 +70,30 @@ public abstract class Ticket {
         CLOSED
     }
 
+    /**
+     * Enum for Ticket Type.
+     */
+    public enum TicketType {
+        BUG,
+        FEATURE_REQUEST,
+        UI_FEEDBACK
+    }
+
+    /**
+     * Listener notified after a ticket's status or priority may have changed.
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+        /**
+         * Called after a mutation of the ticket.
+         *
+         * @param ticket      the changed ticket
+         * @param oldStatus   the status before the mutation
+         * @param oldPriority the priority before the mutation
+         */
+        void onTicketChanged(Ticket ticket, Status oldStatus, BusinessPriority oldPriority);
+    }
+
     /**
      * Enum for Expertise Area.
      */
@@ -349,6 +388,8 @@ public abstract class Ticket {
         private String milestone;
         private String by;
         private String timestamp;
+        @Setter(AccessLevel.NONE)
+        private int day = DateUtil.NO_DAY;
         private String action;
         private Status from;
         private Status to;
@@ -373,6 +414,7 @@ public abstract class Ticket {
             this.milestone = milestone;
             this.by = by;
             this.timestamp = timestamp;
+            this.day = DateUtil.toDay(timestamp);
             this.action = action;
         }
 
@@ -391,6 +433,7 @@ public abstract class Ticket {
             this.to = to;
             this.by = by;
             this.timestamp = timestamp;
+            this.day = DateUtil.toDay(timestamp);
             this.action = action;
         }
 
@@ -404,9 +447,19 @@ public abstract class Ticket {
         public Action(final String by, final String timestamp, final String action) {
             this.by = by;
             this.timestamp = timestamp;
+            this.day = DateUtil.toDay(timestamp);
             this.action = action;
         }
 
+        /**
+         * Sets the time of the action.
+         *
+         * @param timestamp the time
+         */
+        public void setTimestamp(final String timestamp) {
+            this.timestamp = timestamp;
+            this.day = DateUtil.toDay(timestamp);
+        }
     }
 
     /**
@@ -523,9 +576,16 @@ public abstract class Ticket {
     private String assignedAt;
     private String solvedAt;
     private String createdAt;
+    @Setter(AccessLevel.NONE)
+    private int assignedDay = DateUtil.NO_DAY;
+    @Setter(AccessLevel.NONE)
+    private int solvedDay = DateUtil.NO_DAY;
+    @Setter(AccessLevel.NONE)
+    private int createdDay = DateUtil.NO_DAY;
     private ExpertiseArea expertiseArea;
     private List<Comment> comments = new ArrayList<Comment>();
     private TicketHistory ticketHistory;
+    private ChangeListener changeListener;
 
     /**
      * Constructor using Builder.
@@ -542,6 +602,7 @@ public abstract class Ticket {
         this.description = b.description;
         this.reportedBy = b.reportedBy;
         this.createdAt = b.createdAt;
+        this.createdDay = DateUtil.toDay(b.createdAt);
 
         this.ticketHistory = new TicketHistory();
         this.ticketHistory.setId(this.id);
@@ -593,9 +654,12 @@ public abstract class Ticket {
                 command.username(), command.timestamp(), "STATUS_CHANGED");
         ticketHistory.getActions().add(statusAction);
 
+        final Status oldStatus = this.status;
         this.status = Status.IN_PROGRESS;
         this.assignedTo = command.username();
         this.assignedAt = command.timestamp();
+        this.assignedDay = DateUtil.toDay(assignedAt);
+        fireChange(oldStatus, businessPriority);
     }
 
     /**
@@ -612,9 +676,12 @@ public abstract class Ticket {
                 command.username(), command.timestamp(), "STATUS_CHANGED");
         ticketHistory.getActions().add(statusAction);
 
+        final Status oldStatus = this.status;
         this.status = Status.OPEN;
         this.assignedTo = null;
         this.assignedAt = null;
+        this.assignedDay = DateUtil.NO_DAY;
+        fireChange(oldStatus, businessPriority);
     }
 
     /**
@@ -630,22 +697,114 @@ public abstract class Ticket {
                     "STATUS_CHANGED");
             this.ticketHistory.getActions().add(statusAction);
         }
+        final Status oldStatus = this.status;
         this.status = newStatus;
         if (status.name().equals("RESOLVED")) {
             solvedAt = timestamp;
+            solvedDay = DateUtil.toDay(timestamp);
         }
+        fireChange(oldStatus, businessPriority);
     }
 
     /**
      * Increases the priority of the ticket.
      */
     public void upPriority() {
+        final BusinessPriority oldPriority = businessPriority;
         businessPriority = switch (businessPriority) {
             case BusinessPriority.LOW -> BusinessPriority.MEDIUM;
             case BusinessPriority.MEDIUM -> BusinessPriority.HIGH;
             case BusinessPriority.HIGH -> BusinessPriority.CRITICAL;
             default -> BusinessPriority.CRITICAL;
         };
+        fireChange(status, oldPriority);
+    }
+
+    /**
+     * Increases the priority of the ticket several times at once.
+     * Stops early once the ticket is CRITICAL.
+     *
+     * @param times The number of escalations to apply
+     */
+    public void upPriority(final int times) {
+        for (int i = 0; i < times && businessPriority != BusinessPriority.CRITICAL; i++) {
+            upPriority();
+        }
+    }
+
+    /**
+     * Sets the status of the ticket without recording it in the history.
+     *
+     * @param status the new status
+     */
+    public void setStatus(final Status status) {
+        final Status oldStatus = this.status;
+        this.status = status;
+        fireChange(oldStatus, businessPriority);
+    }
+
+    /**
+     * Sets the business priority of the ticket.
+     *
+     * @param businessPriority the new priority
+     */
+    public void setBusinessPriority(final BusinessPriority businessPriority) {
+        final BusinessPriority oldPriority = this.businessPriority;
+        this.businessPriority = businessPriority;
+        fireChange(status, oldPriority);
+    }
+
+    /**
+     * Sets the date the ticket was created.
+     *
+     * @param createdAt the creation date
+     */
+    public void setCreatedAt(final String createdAt) {
+        this.createdAt = createdAt;
+        this.createdDay = DateUtil.toDay(createdAt);
+    }
+
+    /**
+     * Sets the date the ticket was assigned.
+     *
+     * @param assignedAt the assign date, or null to clear it
+     */
+    public void setAssignedAt(final String assignedAt) {
+        this.assignedAt = assignedAt;
+        this.assignedDay = DateUtil.toDay(assignedAt);
+        fireChange(status, businessPriority);
+    }
+
+    /**
+     * Sets the date the ticket was solved.
+     *
+     * @param solvedAt the solve date, or null to clear it
+     */
+    public void setSolvedAt(final String solvedAt) {
+        this.solvedAt = solvedAt;
+        this.solvedDay = DateUtil.toDay(solvedAt);
+        fireChange(status, businessPriority);
+    }
+
+    /**
+     * Gets the type of the ticket as an enum.
+     *
+     * @return the ticket type
+     */
+    public TicketType getTicketType() {
+        return TicketType.valueOf(type);
+    }
+
+    /**
+     * Notifies the change listener, if any.
+     *
+     * @param oldStatus   the status before the mutation
+     * @param oldPriority the priority before the mutation
+     */
+    private void fireChange(final Status oldStatus, final BusinessPriority oldPriority) {
+        if (changeListener != null) {
+            changeListener.onTicketChanged(this, oldStatus, oldPriority);
+        }
     }
 
     /**
@@ -724,7 +883,4 @@ public abstract class Ticket {
             comments.remove(remove);
         }
     }
-
-    private List<String> matchingWords = new ArrayList<>();
-
 }
@@ -2,9 +2,6 @@ package tickets;
 
 import tickets.FeatureRequest.BusinessValue;
 import mathutils.MathUtil;
-import java.time.temporal.ChronoUnit;
-
-import java.time.LocalDate;
 
 /**
  * Represents a UI Feedback ticket.
@@ -65,9 +62,7 @@ public final class UIFeedback extends Ticket {
             default -> SCORE_DEFAULT;
         };
 
-        int daysToResolve = -(int) ChronoUnit.DAYS.between(LocalDate.parse(this.getSolvedAt()),
-                LocalDate.parse(this.getAssignedAt()));
-        daysToResolve++;
+        final int daysToResolve = getResolutionDays();
 
         return MathUtil.normalize(((businessScore + usabilityScore) / daysToResolve),
                 NORM_EFFICIENCY);
@@ -1,16 +1,16 @@
 package users;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 
 import database.Database;
+import database.PerformanceIndex;
 import lombok.Getter;
 import lombok.Setter;
 import notifications.Observer;
 import tickets.Ticket;
-import java.time.temporal.TemporalAdjusters;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -173,66 +173,40 @@ public final class Developer extends User implements Observer {
      * @return a list of statistics numbers
      */
     public List<Number> updatePerformanceScore(final LocalDate reportTimestamp) {
+        final List<Number> stats = computePerformanceScore(reportTimestamp);
+        recordPerformanceScore(stats.get(1).doubleValue());
+        return stats;
+    }
+
+    /**
+     * Stores a performance score computed for a report.
+     *
+     * @param score the score
+     */
+    public void recordPerformanceScore(final double score) {
+        this.performanceScore = score;
+        this.performanceScoreCalculated = true;
+    }
+
+    /**
+     * Computes the performance statistics for a report without changing the
+     * developer, so it can run on any thread.
+     *
+     * @param reportTimestamp the date of the report
+     * @return the closed ticket count, the score and the average resolution time
+     */
+    public List<Number> computePerformanceScore(final LocalDate reportTimestamp) {
         final List<Number> stats = new ArrayList<>();
 
-        int bugTickets = 0;
-        int featureTickets = 0;
-        int uiTickets = 0;
-        int highPriorityTickets = 0;
-        double totalResolutionTime = 0.0;
-        int monthlyClosedTickets = 0;
-
-        final Database db = Database.getInstance();
-        final List<Ticket> allTickets = db.getAllTickets();
-
-        final LocalDate currentDate = reportTimestamp;
-        final LocalDate earliestDate = currentDate
-                .withDayOfMonth(1)
-                .minusMonths(1);
-        final LocalDate latestDate = currentDate
-                .withDayOfMonth(1)
-                .minusMonths(1)
-                .with(TemporalAdjusters.lastDayOfMonth());
-
-        for (final Ticket ticket : allTickets) {
-            if (ticket.getStatus() != Ticket.Status.CLOSED) {
-                continue;
-            }
-            if (!ticket.getAssignedTo().equals(this.username)) {
-                continue;
-            }
-
-            final LocalDate solvedDate = LocalDate.parse(ticket.getSolvedAt());
-
-            if (solvedDate.isBefore(earliestDate) || solvedDate.isAfter(latestDate)) {
-                continue;
-            }
-
-            monthlyClosedTickets++;
-
-            switch (ticket.getType()) {
-                case "BUG":
-                    bugTickets++;
-                    break;
-                case "FEATURE_REQUEST":
-                    featureTickets++;
-                    break;
-                case "UI_FEEDBACK":
-                    uiTickets++;
-                    break;
-                default:
-                    break;
-            }
-
-            if (ticket.getBusinessPriority() == Ticket.BusinessPriority.HIGH
-                    || ticket.getBusinessPriority() == Ticket.BusinessPriority.CRITICAL) {
-                highPriorityTickets++;
-            }
-
-            final LocalDate assignedDate = LocalDate.parse(ticket.getAssignedAt());
-            final long days = ChronoUnit.DAYS.between(assignedDate, solvedDate) + 1;
-            totalResolutionTime += days;
-        }
+        final PerformanceIndex.MonthlyStats month = Database.getInstance()
+                .getPerformanceIndex()
+                .get(this.username, YearMonth.from(reportTimestamp).minusMonths(1));
+        final int bugTickets = month.getBugTickets();
+        final int featureTickets = month.getFeatureTickets();
+        final int uiTickets = month.getUiTickets();
+        final int highPriorityTickets = month.getHighPriorityTickets();
+        final double totalResolutionTime = month.getTotalResolutionDays();
+        final int monthlyClosedTickets = month.getClosedTickets();
 
         final double averageResolutionTime = monthlyClosedTickets > 0
                 ? totalResolutionTime / monthlyClosedTickets
@@ -282,9 +256,6 @@ public final class Developer extends User implements Observer {
                 break;
         }
 
-        this.performanceScore = calculatedScore;
-        this.performanceScoreCalculated = true;
-
         stats.add(monthlyClosedTickets);
         stats.add(calculatedScore);
         stats.add(averageResolutionTime);
@@ -346,6 +317,16 @@ public final class Developer extends User implements Observer {
      * @return true if the developer can handle it, false otherwise
      */
     public boolean canHandleTicket(final Ticket ticket) {
+        return canHandlePriority(ticket.getBusinessPriority());
+    }
+
+    /**
+     * Checks if the developer's seniority is enough for a business priority.
+     *
+     * @param priority the priority to check
+     * @return true if the developer can handle it, false otherwise
+     */
+    public boolean canHandlePriority(final Ticket.BusinessPriority priority) {
         final int developerLevel = switch (this.getSeniority().name()) {
             case "MID" -> LVL_MID;
             case "SENIOR" -> LVL_SENIOR;
@@ -353,7 +334,7 @@ public final class Developer extends User implements Observer {
             default -> LVL_DEFAULT;
         };
 
-        final int ticketLevel = switch (ticket.getBusinessPriority().name()) {
+        final int ticketLevel = switch (priority.name()) {
             case "LOW" -> TICKET_LOW;
             case "MEDIUM" -> TICKET_MED;
             case "HIGH" -> TICKET_HIGH;
@@ -0,0 +1,78 @@
+package database;
+
+import io.CommandInput;
+import io.IOUtil;
+import milestones.Milestone;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the database finds the milestone of a ticket and rejects a
+ * milestone listing a ticket that already has one.
+ */
+public class MilestoneIndexTest {
+    private final Database db = Database.getInstance();
+    private Path output;
+
+    @BeforeEach
+    public void openOutput() throws IOException {
+        db.clearDatabase();
+        output = Files.createTempFile("milestone-index-", ".json");
+        IOUtil.clearIO();
+        IOUtil.setPaths(null, output.toString());
+        IOUtil.openOutput();
+    }
+
+    @AfterEach
+    public void closeOutput() throws IOException {
+        IOUtil.writeOutput();
+        Files.delete(output);
+        db.clearDatabase();
+    }
+
+    @Test
+    public void findsTheMilestoneOfEachListedTicket() {
+        db.addMilestone(command("M0", 0, 2));
+        final Milestone milestone = db.getMilestoneFromName("M0");
+
+        assertThat(db.getMilestoneFromTicketID(0)).isSameAs(milestone);
+        assertThat(db.getMilestoneFromTicketID(2)).isSameAs(milestone);
+        assertThat(db.getMilestoneNameFromTicketID(2)).isEqualTo("M0");
+        assertThat(db.getMilestoneFromTicketID(1)).isNull();
+        assertThat(db.getMilestoneNameFromTicketID(1)).isNull();
+    }
+
+    @Test
+    public void rejectsTicketsThatAlreadyHaveAMilestone() throws IOException {
+        db.addMilestone(command("M0", 0, 1));
+        db.addMilestone(command("M1", 2, 1));
+
+        assertThat(db.getMilestoneFromName("M1")).isNull();
+        assertThat(db.getMilestoneNameFromTicketID(1)).isEqualTo("M0");
+        assertThat(db.getMilestoneFromTicketID(2)).isNull();
+
+        IOUtil.writeOutput();
+        assertThat(Files.readString(output))
+                .contains("Tickets 1 already assigned to milestone M0.");
+    }
+
+    @Test
+    public void clearingForgetsTheMilestones() {
+        db.addMilestone(command("M0", 0));
+        db.clearDatabase();
+
+        assertThat(db.getMilestoneFromTicketID(0)).isNull();
+    }
+
+    private static CommandInput command(final String name, final int... tickets) {
+        return new CommandInput("createMilestone", "gabriel_manager", "2025-10-02", null,
+                "2025-10-20", new String[0], new String[0], tickets, 0, null, null, null, name);
+    }
+}
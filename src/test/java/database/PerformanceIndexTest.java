@@ -0,0 +1,129 @@
+package database;
+
+import database.PerformanceIndex.MonthlyStats;
+import org.junit.jupiter.api.Test;
+import tickets.Bug;
+import tickets.FeatureRequest;
+import tickets.Ticket;
+import tickets.Ticket.BusinessPriority;
+import tickets.Ticket.Status;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the closed-ticket statistics follow the tickets through
+ * closes, reopens and changes while closed.
+ */
+public class PerformanceIndexTest {
+    private static final String DEV = "alex_devops";
+    private static final YearMonth OCTOBER = YearMonth.of(2025, 10);
+    private static final YearMonth NOVEMBER = YearMonth.of(2025, 11);
+
+    private final PerformanceIndex index = new PerformanceIndex();
+
+    @Test
+    public void countsClosedTicketsInTheMonthOfTheirSolve() {
+        index.update(closed(bug(0, BusinessPriority.HIGH), "2025-10-02", "2025-10-04"));
+        index.update(closed(feature(1, BusinessPriority.LOW), "2025-10-05", "2025-10-05"));
+        index.update(closed(bug(2, BusinessPriority.CRITICAL), "2025-10-30", "2025-11-02"));
+
+        final MonthlyStats october = index.get(DEV, OCTOBER);
+        assertThat(october.getClosedTickets()).isEqualTo(2);
+        assertThat(october.getBugTickets()).isEqualTo(1);
+        assertThat(october.getFeatureTickets()).isEqualTo(1);
+        assertThat(october.getUiTickets()).isEqualTo(0);
+        assertThat(october.getHighPriorityTickets()).isEqualTo(1);
+        assertThat(october.getTotalResolutionDays()).isEqualTo(4L);
+
+        final MonthlyStats november = index.get(DEV, NOVEMBER);
+        assertThat(november.getClosedTickets()).isEqualTo(1);
+        assertThat(november.getTotalResolutionDays()).isEqualTo(4L);
+    }
+
+    @Test
+    public void skipsTicketsThatAreNotClosed() {
+        final Ticket ticket = closed(bug(0, BusinessPriority.HIGH), "2025-10-02", "2025-10-04");
+        ticket.setStatus(Status.RESOLVED);
+        index.update(ticket);
+        index.update(bug(1, BusinessPriority.HIGH));
+
+        assertThat(index.get(DEV, OCTOBER).getClosedTickets()).isEqualTo(0);
+    }
+
+    @Test
+    public void takesBackReopenedTickets() {
+        final Ticket ticket = closed(bug(0, BusinessPriority.HIGH), "2025-10-02", "2025-10-04");
+        index.update(ticket);
+        ticket.setStatus(Status.IN_PROGRESS);
+        index.update(ticket);
+
+        final MonthlyStats october = index.get(DEV, OCTOBER);
+        assertThat(october.getClosedTickets()).isEqualTo(0);
+        assertThat(october.getBugTickets()).isEqualTo(0);
+        assertThat(october.getHighPriorityTickets()).isEqualTo(0);
+        assertThat(october.getTotalResolutionDays()).isEqualTo(0L);
+    }
+
+    @Test
+    public void replacesTheContributionOfAChangedTicket() {
+        final Ticket ticket = closed(bug(0, BusinessPriority.LOW), "2025-10-02", "2025-10-04");
+        index.update(ticket);
+        ticket.setBusinessPriority(BusinessPriority.HIGH);
+        index.update(ticket);
+
+        final MonthlyStats october = index.get(DEV, OCTOBER);
+        assertThat(october.getClosedTickets()).isEqualTo(1);
+        assertThat(october.getHighPriorityTickets()).isEqualTo(1);
+    }
+
+    @Test
+    public void unknownDevelopersAndClearedIndexesHaveNoStats() {
+        index.update(closed(bug(0, BusinessPriority.LOW), "2025-10-02", "2025-10-04"));
+
+        assertThat(index.get("nobody", OCTOBER).getClosedTickets()).isEqualTo(0);
+        assertThat(index.get(DEV, NOVEMBER).getClosedTickets()).isEqualTo(0);
+
+        index.clear();
+
+        assertThat(index.get(DEV, OCTOBER).getClosedTickets()).isEqualTo(0);
+    }
+
+    private static Ticket closed(final Ticket ticket, final String assignedAt,
+            final String solvedAt) {
+        ticket.setAssignedTo(DEV);
+        ticket.setAssignedAt(assignedAt);
+        ticket.setSolvedAt(solvedAt);
+        ticket.setStatus(Status.CLOSED);
+        return ticket;
+    }
+
+    private static Ticket bug(final int id, final BusinessPriority priority) {
+        return new Bug.Builder()
+                .frequency(Bug.Frequency.RARE)
+                .severity(Bug.Severity.MINOR)
+                .type("BUG")
+                .id(id)
+                .title("bug " + id)
+                .businessPriority(priority)
+                .status(Status.OPEN)
+                .reportedBy("reporter")
+                .createdAt("2025-10-01")
+                .build();
+    }
+
+    private static Ticket feature(final int id, final BusinessPriority priority) {
+        return new FeatureRequest.Builder()
+                .businessValue(FeatureRequest.BusinessValue.M)
+                .customerDemand(FeatureRequest.CustomerDemand.LOW)
+                .type("FEATURE_REQUEST")
+                .id(id)
+                .title("feature " + id)
+                .businessPriority(priority)
+                .status(Status.OPEN)
+                .reportedBy("reporter")
+                .createdAt("2025-10-01")
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package database;
+
+import main.App;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that scoring the subordinates in parallel gives the same output as
+ * scoring them one after another.
+ */
+public class PerformanceModeTest {
+    private static final int DEFAULT_PARALLEL_MIN = Database.getInstance()
+            .getParallelPerformanceMin();
+
+    private final Database db = Database.getInstance();
+
+    static Stream<String> inputs() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("input"))) {
+            return files.map(Path::toString)
+                    .filter(name -> name.endsWith(".json"))
+                    .sorted()
+                    .toList()
+                    .stream();
+        }
+    }
+
+    @AfterEach
+    public void restoreMode() {
+        db.setPerformanceMode(Database.PerformanceMode.PARALLEL);
+        db.setParallelPerformanceMin(DEFAULT_PARALLEL_MIN);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inputs")
+    public void parallelMatchesSequential(final String inputPath) throws IOException {
+        db.setParallelPerformanceMin(1);
+
+        assertThat(runWith(Database.PerformanceMode.PARALLEL, inputPath))
+                .isEqualTo(runWith(Database.PerformanceMode.SEQUENTIAL, inputPath));
+    }
+
+    private String runWith(final Database.PerformanceMode mode, final String inputPath)
+            throws IOException {
+        final Path output = Files.createTempFile("performance-mode-", ".json");
+        try {
+            db.setPerformanceMode(mode);
+            App.run(inputPath, output.toString());
+            return Files.readString(output);
+        } finally {
+            Files.delete(output);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package database;
+
+import org.junit.jupiter.api.Test;
+import tickets.Bug;
+import tickets.FeatureRequest;
+import tickets.Ticket;
+import tickets.Ticket.BusinessPriority;
+import tickets.Ticket.ExpertiseArea;
+import tickets.Ticket.Status;
+import tickets.Ticket.TicketType;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the ticket buckets follow status and priority changes and
+ * hand out copies of their sets.
+ */
+public class TicketBucketsTest {
+    private final TicketBuckets buckets = new TicketBuckets();
+
+    @Test
+    public void addsTicketsToTheirBuckets() {
+        buckets.add(bug(0, BusinessPriority.LOW, ExpertiseArea.FRONTEND));
+        buckets.add(bug(1, BusinessPriority.HIGH, null));
+        buckets.add(feature(2, BusinessPriority.LOW));
+
+        assertThat(buckets.ofType(TicketType.BUG)).isEqualTo(ids(0, 1));
+        assertThat(buckets.ofType(TicketType.FEATURE_REQUEST)).isEqualTo(ids(2));
+        assertThat(buckets.withPriority(BusinessPriority.LOW)).isEqualTo(ids(0, 2));
+        assertThat(buckets.inArea(ExpertiseArea.FRONTEND)).isEqualTo(ids(0));
+        assertThat(buckets.inArea(ExpertiseArea.BACKEND)).isEqualTo(ids(2));
+        assertThat(buckets.withStatus(Status.OPEN)).isEqualTo(ids(0, 1, 2));
+        assertThat(buckets.all()).isEqualTo(ids(0, 1, 2));
+    }
+
+    @Test
+    public void movesChangedTicketsBetweenBuckets() {
+        final Ticket ticket = bug(0, BusinessPriority.LOW, ExpertiseArea.FRONTEND);
+        buckets.add(ticket);
+        buckets.add(bug(1, BusinessPriority.LOW, ExpertiseArea.FRONTEND));
+
+        ticket.setStatus(Status.IN_PROGRESS);
+        ticket.setBusinessPriority(BusinessPriority.CRITICAL);
+        buckets.update(ticket, Status.OPEN, BusinessPriority.LOW);
+
+        assertThat(buckets.withStatus(Status.OPEN)).isEqualTo(ids(1));
+        assertThat(buckets.withStatus(Status.IN_PROGRESS)).isEqualTo(ids(0));
+        assertThat(buckets.withStatus(Status.OPEN, Status.IN_PROGRESS)).isEqualTo(ids(0, 1));
+        assertThat(buckets.withPriority(BusinessPriority.LOW)).isEqualTo(ids(1));
+        assertThat(buckets.withPriority(BusinessPriority.CRITICAL)).isEqualTo(ids(0));
+        assertThat(buckets.all()).isEqualTo(ids(0, 1));
+    }
+
+    @Test
+    public void handsOutCopies() {
+        buckets.add(bug(0, BusinessPriority.LOW, ExpertiseArea.FRONTEND));
+
+        buckets.ofType(TicketType.BUG).clear();
+        buckets.withPriority(BusinessPriority.LOW).clear();
+        buckets.inArea(ExpertiseArea.FRONTEND).clear();
+        buckets.withStatus(Status.OPEN).clear();
+
+        assertThat(buckets.ofType(TicketType.BUG)).isEqualTo(ids(0));
+        assertThat(buckets.withPriority(BusinessPriority.LOW)).isEqualTo(ids(0));
+        assertThat(buckets.inArea(ExpertiseArea.FRONTEND)).isEqualTo(ids(0));
+        assertThat(buckets.withStatus(Status.OPEN)).isEqualTo(ids(0));
+    }
+
+    @Test
+    public void clearEmptiesEveryBucket() {
+        buckets.add(bug(0, BusinessPriority.LOW, ExpertiseArea.FRONTEND));
+        buckets.clear();
+
+        assertThat(buckets.all()).isEqualTo(ids());
+        assertThat(buckets.ofType(TicketType.BUG)).isEqualTo(ids());
+        assertThat(buckets.inArea(ExpertiseArea.FRONTEND)).isEqualTo(ids());
+    }
+
+    private static BitSet ids(final int... ids) {
+        final BitSet result = new BitSet();
+        for (final int id : ids) {
+            result.set(id);
+        }
+        return result;
+    }
+
+    private static Ticket bug(final int id, final BusinessPriority priority,
+            final ExpertiseArea area) {
+        return new Bug.Builder()
+                .frequency(Bug.Frequency.RARE)
+                .severity(Bug.Severity.MINOR)
+                .type("BUG")
+                .id(id)
+                .title("bug " + id)
+                .businessPriority(priority)
+                .status(Status.OPEN)
+                .expertiseArea(area)
+                .reportedBy("reporter")
+                .createdAt("2025-10-01")
+                .build();
+    }
+
+    private static Ticket feature(final int id, final BusinessPriority priority) {
+        return new FeatureRequest.Builder()
+                .businessValue(FeatureRequest.BusinessValue.M)
+                .customerDemand(FeatureRequest.CustomerDemand.LOW)
+                .type("FEATURE_REQUEST")
+                .id(id)
+                .title("feature " + id)
+                .businessPriority(priority)
+                .status(Status.OPEN)
+                .expertiseArea(ExpertiseArea.BACKEND)
+                .reportedBy("reporter")
+                .createdAt("2025-10-01")
+                .build();
+    }
+}
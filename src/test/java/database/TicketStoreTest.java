@@ -0,0 +1,98 @@
+package database;
+
+import org.junit.jupiter.api.Test;
+import tickets.Bug;
+import tickets.Ticket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the ticket store finds tickets by ID and reports the IDs
+ * without a ticket as missing.
+ */
+public class TicketStoreTest {
+    private static final int FAR_ID = 1000;
+
+    private final TicketStore store = new TicketStore();
+
+    @Test
+    public void findsTicketsByIdAcrossGaps() {
+        final Ticket first = ticket(0);
+        final Ticket third = ticket(2);
+        store.put(first);
+        store.put(third);
+
+        assertThat(store.get(0)).isSameAs(first);
+        assertThat(store.get(2)).isSameAs(third);
+        assertThat(store.get(1)).isNull();
+        assertThat(store.contains(1)).isFalse();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void growsForIdsPastTheCapacity() {
+        final Ticket far = ticket(FAR_ID);
+        store.put(far);
+
+        assertThat(store.get(FAR_ID)).isSameAs(far);
+        assertThat(store.get(FAR_ID - 1)).isNull();
+        assertThat(store.get(FAR_ID + 1)).isNull();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void treatsNegativeIdsAsMissing() {
+        store.put(ticket(0));
+
+        assertThat(store.get(-1)).isNull();
+        assertThat(store.contains(-1)).isFalse();
+    }
+
+    @Test
+    public void replacingATicketKeepsTheCount() {
+        store.put(ticket(3));
+        final Ticket replacement = ticket(3);
+        store.put(replacement);
+
+        assertThat(store.get(3)).isSameAs(replacement);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void removeLeavesAGap() {
+        store.put(ticket(0));
+        store.put(ticket(1));
+        store.remove(0);
+        store.remove(0);
+        store.remove(FAR_ID);
+
+        assertThat(store.contains(0)).isFalse();
+        assertThat(store.contains(1)).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void clearRemovesEveryTicket() {
+        store.put(ticket(0));
+        store.put(ticket(FAR_ID));
+        store.clear();
+
+        assertThat(store.get(0)).isNull();
+        assertThat(store.get(FAR_ID)).isNull();
+        assertThat(store.size()).isEqualTo(0);
+    }
+
+    private static Ticket ticket(final int id) {
+        return new Bug.Builder()
+                .frequency(Bug.Frequency.RARE)
+                .severity(Bug.Severity.MINOR)
+                .type("BUG")
+                .id(id)
+                .title("ticket " + id)
+                .businessPriority(Ticket.BusinessPriority.LOW)
+                .status(Ticket.Status.OPEN)
+                .reportedBy("reporter")
+                .createdAt("2025-10-01")
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package database;
+
+import main.App;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that catching up over a date jump gives the same output as
+ * processing every day of it.
+ */
+public class UpdateModeTest {
+    private final Database db = Database.getInstance();
+
+    static Stream<String> inputs() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("input"))) {
+            return files.map(Path::toString)
+                    .filter(name -> name.endsWith(".json"))
+                    .sorted()
+                    .toList()
+                    .stream();
+        }
+    }
+
+    @AfterEach
+    public void restoreMode() {
+        db.setUpdateMode(Database.UpdateMode.CATCH_UP);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inputs")
+    public void dailyMatchesCatchUp(final String inputPath) throws IOException {
+        assertThat(runWith(Database.UpdateMode.CATCH_UP, inputPath))
+                .isEqualTo(runWith(Database.UpdateMode.DAILY, inputPath));
+    }
+
+    private String runWith(final Database.UpdateMode mode, final String inputPath)
+            throws IOException {
+        final Path output = Files.createTempFile("update-mode-", ".json");
+        try {
+            db.setUpdateMode(mode);
+            App.run(inputPath, output.toString());
+            return Files.readString(output);
+        } finally {
+            Files.delete(output);
+        }
+    }
+}
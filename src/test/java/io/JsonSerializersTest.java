@@ -0,0 +1,61 @@
+package io;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import milestones.Milestone;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the milestone fields that are built from the milestone's sets.
+ */
+public class JsonSerializersTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void listsEveryAssignedDeveloperInOrder() throws IOException {
+        final Milestone milestone = new Milestone("gabriel_manager", "2025-10-01", "M0",
+                new String[0], "2025-10-20", new int[] {2, 0, 2},
+                new String[] {"mateo_frontend", "alex_devops", "mateo_frontend"});
+        milestone.assignDeveloper(command("mateo_frontend", 2));
+        milestone.assignDeveloper(command("alex_devops", 0));
+
+        final JsonNode node = write(milestone);
+
+        assertThat(ids(node.get("openTickets"))).containsExactly(0, 2, 2);
+        final JsonNode repartition = node.get("repartition");
+        assertThat(repartition.size()).isEqualTo(3);
+        assertThat(repartition.get(0).get("developer").asText()).isEqualTo("mateo_frontend");
+        assertThat(ids(repartition.get(0).get("assignedTickets"))).containsExactly(2);
+        assertThat(repartition.get(1).get("developer").asText()).isEqualTo("alex_devops");
+        assertThat(ids(repartition.get(1).get("assignedTickets"))).containsExactly(0);
+        assertThat(repartition.get(2).get("developer").asText()).isEqualTo("mateo_frontend");
+        assertThat(ids(repartition.get(2).get("assignedTickets"))).isEmpty();
+    }
+
+    private static JsonNode write(final Milestone milestone) throws IOException {
+        final StringWriter out = new StringWriter();
+        try (JsonGenerator gen = MAPPER.createGenerator(out)) {
+            JsonSerializers.writeMilestone(gen, milestone);
+        }
+        return MAPPER.readTree(out.toString());
+    }
+
+    private static List<Integer> ids(final JsonNode array) {
+        final List<Integer> result = new ArrayList<>();
+        array.forEach(id -> result.add(id.asInt()));
+        return result;
+    }
+
+    private static CommandInput command(final String username, final int ticketId) {
+        return new CommandInput("assignTicket", username, "2025-10-02", null, null,
+                null, null, null, ticketId, null, null, null, null);
+    }
+}
@@ -0,0 +1,87 @@
+package milestones;
+
+import mathutils.DateUtil;
+import milestones.MilestoneForecast.Risk;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the rolling close rate and the completion projection of a
+ * milestone forecast.
+ */
+public class MilestoneForecastTest {
+    private static final int CREATED = DateUtil.toDay("2025-10-01");
+    private static final int DUE = CREATED + 10;
+    private static final int OPEN = 5;
+
+    private final MilestoneForecast forecast = new MilestoneForecast(CREATED);
+
+    @Test
+    public void projectsFromTheCloseRate() {
+        forecast.recordClose(CREATED);
+        forecast.recordClose(CREATED);
+
+        assertThat(forecast.rateOn(CREATED + 1)).isEqualTo(0.6);
+        assertThat(forecast.projectCompletion(CREATED + 1, 3)).isEqualTo(CREATED + 6);
+        assertThat(MilestoneForecast.riskOf(CREATED + 6, DUE, 3)).isEqualTo(Risk.LOW);
+    }
+
+    @Test
+    public void reopensLowerTheRate() {
+        forecast.recordClose(CREATED);
+        forecast.recordClose(CREATED);
+        forecast.recordReopen(CREATED);
+
+        assertThat(forecast.rateOn(CREATED + 1)).isEqualTo(0.3);
+
+        forecast.recordReopen(CREATED + 1);
+
+        assertThat(forecast.rateOn(CREATED + 2)).isEqualTo(0.0);
+        assertThat(forecast.projectCompletion(CREATED + 2, OPEN)).isEqualTo(DateUtil.NO_DAY);
+    }
+
+    @Test
+    public void idleDaysPushTheProjectionOut() {
+        forecast.recordClose(CREATED);
+        final int day = CREATED + 40;
+
+        final int projected = forecast.projectCompletion(day, OPEN);
+
+        assertThat(projected).isGreaterThan(day);
+        assertThat(MilestoneForecast.riskOf(projected, DUE, OPEN)).isEqualTo(Risk.HIGH);
+    }
+
+    @Test
+    public void longIdleGapsGiveNoProjection() {
+        forecast.recordClose(CREATED);
+
+        for (final int idle : new int[] {70, 1000, 100000}) {
+            final int projected = forecast.projectCompletion(CREATED + idle, OPEN);
+
+            assertThat(projected).isEqualTo(DateUtil.NO_DAY);
+            assertThat(MilestoneForecast.riskOf(projected, DUE, OPEN)).isEqualTo(Risk.HIGH);
+        }
+    }
+
+    @Test
+    public void finishedMilestonesEndOnTheLastClose() {
+        assertThat(forecast.projectCompletion(CREATED + 2, 0)).isEqualTo(CREATED + 2);
+
+        forecast.recordClose(CREATED + 1);
+
+        assertThat(forecast.projectCompletion(CREATED + 2, 0)).isEqualTo(CREATED + 1);
+        assertThat(MilestoneForecast.riskOf(CREATED + 1, DUE, 0)).isEqualTo(Risk.NONE);
+    }
+
+    @Test
+    public void ratesLateProjections() {
+        assertThat(MilestoneForecast.riskOf(DUE, DUE, OPEN)).isEqualTo(Risk.LOW);
+        assertThat(MilestoneForecast.riskOf(DUE + MilestoneForecast.MEDIUM_RISK_DAYS, DUE, OPEN))
+                .isEqualTo(Risk.MEDIUM);
+        assertThat(MilestoneForecast.riskOf(DUE + MilestoneForecast.MEDIUM_RISK_DAYS + 1, DUE,
+                OPEN)).isEqualTo(Risk.HIGH);
+        assertThat(MilestoneForecast.riskOf(Integer.MAX_VALUE, Integer.MAX_VALUE - 1, OPEN))
+                .isEqualTo(Risk.MEDIUM);
+    }
+}
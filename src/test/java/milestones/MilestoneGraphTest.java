@@ -0,0 +1,62 @@
+package milestones;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks how the milestone graph blocks and unblocks milestones.
+ */
+public class MilestoneGraphTest {
+    private final MilestoneGraph graph = new MilestoneGraph();
+
+    @Test
+    public void unblocksOnlyAfterTheLastBlocker() {
+        final Milestone target = add("M0");
+        final Milestone first = add("M1", "M0");
+        final Milestone second = add("M2", "M0");
+
+        assertThat(target.isBlocked()).isTrue();
+        assertThat(graph.complete(first)).isEqualTo(List.of());
+        assertThat(graph.complete(second)).isEqualTo(List.of(target));
+    }
+
+    @Test
+    public void unblocksAgainAfterAnUndo() {
+        final Milestone target = add("M0");
+        final Milestone blocker = add("M1", "M0");
+
+        assertThat(graph.complete(blocker)).isEqualTo(List.of(target));
+        assertThat(graph.complete(blocker)).isEqualTo(List.of(target));
+    }
+
+    @Test
+    public void laterAndOwnNamesBlockNothing() {
+        final Milestone blocker = add("M0", "M0", "M1", "M2");
+        final Milestone later = add("M1");
+
+        assertThat(blocker.isBlocked()).isFalse();
+        assertThat(later.isBlocked()).isFalse();
+        assertThat(graph.complete(blocker)).isEqualTo(List.of(blocker, later));
+    }
+
+    @Test
+    public void namingEachOtherBlocksOnlyTheOlderMilestone() {
+        final Milestone older = add("M0", "M1");
+        final Milestone newer = add("M1", "M0");
+
+        assertThat(older.isBlocked()).isTrue();
+        assertThat(newer.isBlocked()).isFalse();
+        assertThat(graph.complete(older)).isEqualTo(List.of(newer));
+        assertThat(graph.complete(newer)).isEqualTo(List.of(older));
+    }
+
+    private Milestone add(final String name, final String... blockingFor) {
+        final Milestone milestone = new Milestone("gabriel_manager", "2025-10-01", name,
+                blockingFor, "2025-10-20", new int[] {0}, new String[0]);
+        graph.add(milestone);
+        return milestone;
+    }
+}
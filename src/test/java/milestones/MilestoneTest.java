@@ -0,0 +1,74 @@
+package milestones;
+
+import io.CommandInput;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a milestone keeps every listed occurrence of its tickets.
+ */
+public class MilestoneTest {
+    private static final int[] TICKETS = {3, 1, 3};
+
+    private final Milestone milestone = new Milestone("gabriel_manager", "2025-10-01", "M0",
+            new String[0], "2025-10-20", TICKETS, new String[] {"alex_devops"});
+
+    @Test
+    public void keepsDuplicateTickets() {
+        assertThat(milestone.getOpenTickets()).isEqualTo(ids(1, 3));
+        assertThat(milestone.getOpenDuplicates()).isEqualTo(Map.of(3, 1));
+        assertThat(milestone.getNumberOfTickets("OPEN")).isEqualTo(3);
+        assertThat(milestone.getNumberOfTickets("ALL")).isEqualTo(3);
+    }
+
+    @Test
+    public void closesOneOccurrenceAtATime() {
+        milestone.changeStatusOfTicket(command(3));
+
+        assertThat(milestone.getOpenTickets()).isEqualTo(ids(1, 3));
+        assertThat(milestone.getOpenDuplicates()).isEmpty();
+        assertThat(milestone.getClosedTickets()).isEqualTo(ids(3));
+        assertThat(milestone.getClosedDuplicates()).isEmpty();
+        assertThat(milestone.getNumberOfTickets("CLOSED")).isEqualTo(1);
+        assertThat(milestone.getCompletionPercentage()).isEqualTo(0.33);
+    }
+
+    @Test
+    public void reopensOneOccurrenceAtATime() {
+        milestone.changeStatusOfTicket(command(3));
+        milestone.changeStatusOfTicket(command(1));
+        milestone.undoChangeStatusOfTicket(command(3));
+
+        assertThat(milestone.getOpenTickets()).isEqualTo(ids(3));
+        assertThat(milestone.getOpenDuplicates()).isEqualTo(Map.of(3, 1));
+        assertThat(milestone.getClosedTickets()).isEqualTo(ids(1));
+        assertThat(milestone.getClosedDuplicates()).isEmpty();
+        assertThat(milestone.getNumberOfTickets("ALL")).isEqualTo(3);
+    }
+
+    @Test
+    public void ignoresTicketsNotInTheMilestone() {
+        milestone.changeStatusOfTicket(command(2));
+
+        assertThat(milestone.getOpenTickets()).isEqualTo(ids(1, 3));
+        assertThat(milestone.getClosedTickets()).isEqualTo(ids());
+        assertThat(milestone.getNumberOfTickets("CLOSED")).isEqualTo(0);
+    }
+
+    private static BitSet ids(final int... ids) {
+        final BitSet result = new BitSet();
+        for (final int id : ids) {
+            result.set(id);
+        }
+        return result;
+    }
+
+    private static CommandInput command(final int ticketId) {
+        return new CommandInput("changeStatus", "alex_devops", "2025-10-02", null, null,
+                null, null, null, ticketId, null, null, null, null);
+    }
+}
@@ -0,0 +1,78 @@
+package search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import main.App;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the matching words of a search don't carry over to the next
+ * one.
+ */
+public class SearchServiceTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String INPUT = """
+            [
+              {"command": "reportTicket", "username": "lilith_reporter",
+               "timestamp": "2025-10-01",
+               "params": {"type": "FEATURE_REQUEST", "title": "Dark mode",
+                          "businessPriority": "MEDIUM", "reportedBy": "lilith_reporter",
+                          "expertiseArea": "FRONTEND", "businessValue": "M",
+                          "customerDemand": "HIGH"}},
+              {"command": "reportTicket", "username": "lilith_reporter",
+               "timestamp": "2025-10-01",
+               "params": {"type": "FEATURE_REQUEST", "title": "Dark login page",
+                          "businessPriority": "MEDIUM", "reportedBy": "lilith_reporter",
+                          "expertiseArea": "FRONTEND", "businessValue": "M",
+                          "customerDemand": "HIGH"}},
+              {"command": "search", "username": "gabriel_manager", "timestamp": "2025-10-02",
+               "filters": {"searchType": "TICKET", "keywords": ["mode", "dark"]}},
+              {"command": "search", "username": "gabriel_manager", "timestamp": "2025-10-02",
+               "filters": {"searchType": "TICKET", "keywords": ["login"]}},
+              {"command": "search", "username": "gabriel_manager", "timestamp": "2025-10-02",
+               "filters": {"searchType": "TICKET", "businessPriority": "MEDIUM"}}
+            ]
+            """;
+
+    @Test
+    public void matchingWordsBelongToTheirSearch() throws IOException {
+        final JsonNode output = run(INPUT);
+
+        assertThat(matchingWords(output.get(0))).containsExactly(
+                List.of("mode", "dark"), List.of("dark"));
+        assertThat(matchingWords(output.get(1))).containsExactly(List.of("login"));
+        assertThat(matchingWords(output.get(2))).containsExactly(List.of(), List.of());
+    }
+
+    private static List<List<String>> matchingWords(final JsonNode search) {
+        final List<List<String>> result = new ArrayList<>();
+        for (final JsonNode ticket : search.get("results")) {
+            final List<String> words = new ArrayList<>();
+            ticket.get("matchingWords").forEach(word -> words.add(word.asText()));
+            result.add(words);
+        }
+        return result;
+    }
+
+    private static JsonNode run(final String commands) throws IOException {
+        final Path input = Files.createTempFile("search-", ".json");
+        final Path output = Files.createTempFile("search-out-", ".json");
+        try {
+            Files.writeString(input, commands);
+            App.run(input.toString(), output.toString());
+            return MAPPER.readTree(output.toFile());
+        } finally {
+            Files.delete(input);
+            Files.delete(output);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package search;
+
+import database.TicketBuckets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import search.filters.TicketFilterStrategy;
+import search.filters.impl.BusinessPriorityFilter;
+import search.filters.impl.CreatedAfterFilter;
+import search.filters.impl.CreatedAtFilter;
+import search.filters.impl.CreatedBeforeFilter;
+import search.filters.impl.TypeFilter;
+import search.index.CreatedAtIndex;
+import tickets.Bug;
+import tickets.FeatureRequest;
+import tickets.Ticket;
+import tickets.Ticket.BusinessPriority;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the planner intersects the posting lists of the indexed
+ * filters and leaves the other filters for the per-ticket pass.
+ */
+public class TicketQueryPlannerTest {
+    private static final List<TicketFilterStrategy> STRATEGIES = List.of(
+            new TypeFilter(), new BusinessPriorityFilter(), new CreatedAtFilter(),
+            new CreatedAfterFilter(), new CreatedBeforeFilter());
+
+    private final TicketBuckets buckets = new TicketBuckets();
+    private final CreatedAtIndex createdAtIndex = new CreatedAtIndex();
+    private final TicketQueryPlanner planner = new TicketQueryPlanner(buckets, createdAtIndex);
+
+    @BeforeEach
+    public void addTickets() {
+        add(bug(0, BusinessPriority.LOW, "2025-10-01"));
+        add(bug(1, BusinessPriority.HIGH, "2025-10-02"));
+        add(feature(2, BusinessPriority.HIGH, "2025-10-03"));
+        add(bug(3, BusinessPriority.HIGH, "2025-10-04"));
+    }
+
+    @Test
+    public void intersectsTheBuckets() {
+        final Map<String, String> filters = filters(
+                "type", "BUG", "businessPriority", "high", "keywords", "login");
+
+        assertThat(narrow(filters)).isEqualTo(ids(1, 3));
+        assertThat(filters).isEqualTo(Map.of("keywords", "login"));
+    }
+
+    @Test
+    public void combinesTheDateBounds() {
+        final Map<String, String> filters = filters(
+                "createdAfter", "2025-10-01", "createdBefore", "2025-10-04");
+
+        assertThat(narrow(filters)).isEqualTo(ids(1, 2));
+        assertThat(filters).isEmpty();
+    }
+
+    @Test
+    public void intersectsBucketsAndDates() {
+        final Map<String, String> filters = filters(
+                "businessPriority", "HIGH", "createdAt", "2025-10-03");
+
+        assertThat(narrow(filters)).isEqualTo(ids(2));
+    }
+
+    @Test
+    public void unknownValuesMatchNothing() {
+        assertThat(narrow(filters("type", "TASK"))).isEqualTo(ids());
+    }
+
+    @Test
+    public void skipsBlankValues() {
+        final Map<String, String> filters = filters("type", " ");
+
+        assertThat(narrow(filters)).isEqualTo(ids(0, 1, 2, 3));
+        assertThat(filters).isEqualTo(Map.of("type", " "));
+    }
+
+    private BitSet narrow(final Map<String, String> filters) {
+        return planner.narrow(buckets.all(), STRATEGIES, filters);
+    }
+
+    private void add(final Ticket ticket) {
+        buckets.add(ticket);
+        createdAtIndex.add(ticket);
+    }
+
+    private static Map<String, String> filters(final String... entries) {
+        final Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            result.put(entries[i], entries[i + 1]);
+        }
+        return result;
+    }
+
+    private static BitSet ids(final int... ids) {
+        final BitSet result = new BitSet();
+        for (final int id : ids) {
+            result.set(id);
+        }
+        return result;
+    }
+
+    private static Ticket bug(final int id, final BusinessPriority priority,
+            final String createdAt) {
+        return new Bug.Builder()
+                .frequency(Bug.Frequency.RARE)
+                .severity(Bug.Severity.MINOR)
+                .type("BUG")
+                .id(id)
+                .title("bug " + id)
+                .businessPriority(priority)
+                .status(Ticket.Status.OPEN)
+                .reportedBy("reporter")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static Ticket feature(final int id, final BusinessPriority priority,
+            final String createdAt) {
+        return new FeatureRequest.Builder()
+                .businessValue(FeatureRequest.BusinessValue.M)
+                .customerDemand(FeatureRequest.CustomerDemand.LOW)
+                .type("FEATURE_REQUEST")
+                .id(id)
+                .title("feature " + id)
+                .businessPriority(priority)
+                .status(Ticket.Status.OPEN)
+                .reportedBy("reporter")
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package search.index;
+
+import mathutils.DateUtil;
+import org.junit.jupiter.api.Test;
+import tickets.Bug;
+import tickets.Ticket;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the creation date index answers date ranges, including for
+ * tickets added out of date order.
+ */
+public class CreatedAtIndexTest {
+    private static final int TICKETS = 40;
+
+    private final CreatedAtIndex index = new CreatedAtIndex();
+
+    @Test
+    public void findsTheTicketsInARange() {
+        index.add(ticket(0, "2025-10-01"));
+        index.add(ticket(1, "2025-10-03"));
+        index.add(ticket(2, "2025-10-05"));
+
+        assertThat(index.range(day("2025-10-02"), day("2025-10-05"))).isEqualTo(ids(1, 2));
+        assertThat(index.range(day("2025-10-01"), day("2025-10-01"))).isEqualTo(ids(0));
+        assertThat(index.range(day("2025-10-06"), Long.MAX_VALUE)).isEqualTo(ids());
+        assertThat(index.range(Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(ids(0, 1, 2));
+    }
+
+    @Test
+    public void keepsTicketsAddedOutOfOrderSorted() {
+        index.add(ticket(0, "2025-10-05"));
+        index.add(ticket(1, "2025-10-01"));
+        index.add(ticket(2, "2025-10-03"));
+        index.add(ticket(3, "2025-10-01"));
+
+        assertThat(index.lowerBound(day("2025-10-02"))).isEqualTo(2);
+        assertThat(index.range(day("2025-10-01"), day("2025-10-03"))).isEqualTo(ids(1, 2, 3));
+        assertThat(index.range(day("2025-10-04"), Long.MAX_VALUE)).isEqualTo(ids(0));
+    }
+
+    @Test
+    public void emptyRangesMatchNothing() {
+        index.add(ticket(0, "2025-10-03"));
+
+        assertThat(index.range(day("2025-10-04"), day("2025-10-02"))).isEqualTo(ids());
+        assertThat(index.lowerBound(day("2025-10-04"))).isEqualTo(1);
+    }
+
+    @Test
+    public void growsPastTheInitialCapacity() {
+        for (int id = 0; id < TICKETS; id++) {
+            index.add(ticket(id, LocalDate.parse("2025-10-01").plusDays(TICKETS - id).toString()));
+        }
+
+        final BitSet all = new BitSet();
+        all.set(0, TICKETS);
+        assertThat(index.range(Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(all);
+        assertThat(index.range(day("2025-10-02"), day("2025-10-02"))).isEqualTo(ids(TICKETS - 1));
+    }
+
+    @Test
+    public void clearRemovesEveryTicket() {
+        index.add(ticket(0, "2025-10-01"));
+        index.clear();
+
+        assertThat(index.range(Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(ids());
+    }
+
+    private static long day(final String date) {
+        return DateUtil.toDay(date);
+    }
+
+    private static BitSet ids(final int... ids) {
+        final BitSet result = new BitSet();
+        for (final int id : ids) {
+            result.set(id);
+        }
+        return result;
+    }
+
+    private static Ticket ticket(final int id, final String createdAt) {
+        return new Bug.Builder()
+                .frequency(Bug.Frequency.RARE)
+                .severity(Bug.Severity.MINOR)
+                .type("BUG")
+                .id(id)
+                .title("ticket " + id)
+                .businessPriority(Ticket.BusinessPriority.LOW)
+                .status(Ticket.Status.OPEN)
+                .reportedBy("reporter")
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package search.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tickets.Bug;
+import tickets.Ticket;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the keyword index lookups against tickets whose text has many more
+ * distinct words than there are tickets, and against very long tokens.
+ */
+public class KeywordIndexTest {
+    private static final int WORDS = 500;
+
+    private final KeywordIndex index = new KeywordIndex();
+
+    @BeforeEach
+    public void fillIndex() {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < WORDS; i++) {
+            text.append("word").append(i).append(' ');
+        }
+        index.add(ticket(0, "Login Button", text.toString()));
+        index.add(ticket(1, "dark mode", null));
+        index.add(ticket(2, "export  page", "slow dashboard"));
+    }
+
+    @Test
+    public void findsKeywordsInsideTokens() {
+        assertThat(ids("ogi")).isEqualTo(bits(0));
+        assertThat(ids("board")).isEqualTo(bits(2));
+        assertThat(ids("rd49")).isEqualTo(bits(0));
+        assertThat(ids("ode")).isEqualTo(bits(1));
+    }
+
+    @Test
+    public void ignoresCase() {
+        assertThat(ids("LOGIN")).isEqualTo(bits(0));
+        assertThat(ids("Dark")).isEqualTo(bits(1));
+    }
+
+    @Test
+    public void joinsTheTicketsOfEveryKeyword() {
+        assertThat(ids("button", "page", "zzz")).isEqualTo(bits(0, 2));
+        assertThat(ids("o")).isEqualTo(bits(0, 1, 2));
+    }
+
+    @Test
+    public void findsNothingForUnknownKeywords() {
+        assertThat(ids("word500")).isEqualTo(bits());
+        assertThat(ids("modes")).isEqualTo(bits());
+    }
+
+    @Test
+    public void mayReturnTicketsWithTheGramsInDifferentTokens() {
+        index.add(ticket(3, "mod odes", null));
+        assertThat(ids("modes")).isEqualTo(bits(3));
+    }
+
+    @Test
+    public void findsKeywordsInLongTokens() {
+        index.clear();
+        index.add(ticket(0, "a".repeat(WORDS) + "b", null));
+        assertThat(ids("a".repeat(WORDS))).isEqualTo(bits(0));
+        assertThat(ids("aab")).isEqualTo(bits(0));
+        assertThat(ids("ba")).isEqualTo(bits());
+    }
+
+    @Test
+    public void emptyKeywordCantNarrowTheSearch() {
+        assertThat(index.candidates(new String[] {"login", ""})).isNull();
+    }
+
+    @Test
+    public void clearRemovesEveryTicket() {
+        index.clear();
+        assertThat(ids("o")).isEqualTo(bits());
+    }
+
+    private BitSet ids(final String... keywords) {
+        return index.candidates(keywords);
+    }
+
+    private static BitSet bits(final int... ids) {
+        final BitSet result = new BitSet();
+        for (final int id : ids) {
+            result.set(id);
+        }
+        return result;
+    }
+
+    private static Ticket ticket(final int id, final String title, final String description) {
+        return new Bug.Builder()
+                .id(id)
+                .type("BUG")
+                .title(title)
+                .description(description)
+                .businessPriority(Ticket.BusinessPriority.LOW)
+                .reportedBy("reporter")
+                .createdAt("2025-10-01")
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package services;
+
+import database.TicketColumns;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.AnalyticsAggregates.Metric;
+import services.AnalyticsAggregates.Sums;
+import tickets.Bug;
+import tickets.FeatureRequest;
+import tickets.Ticket;
+import tickets.Ticket.BusinessPriority;
+import tickets.Ticket.Status;
+import tickets.Ticket.TicketType;
+import tickets.UIFeedback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the running counts and the report-time score sums against a plain
+ * loop over the tickets, after many changes to the same tickets.
+ */
+public class AnalyticsAggregatesTest {
+    private static final int TICKETS = 300;
+    private static final int CHANGES = 3000;
+    private static final int MAX_USABILITY = 10;
+    private static final int MAX_RESOLUTION_DAYS = 20;
+
+    private final List<Ticket> tickets = new ArrayList<>();
+    private final AnalyticsAggregates aggregates = new AnalyticsAggregates(new TicketColumns());
+
+    @BeforeEach
+    public void fillAggregates() {
+        final Random random = new Random(42);
+        for (int id = 0; id < TICKETS; id++) {
+            tickets.add(ticket(id, random));
+            aggregates.update(tickets.get(id));
+        }
+        for (int i = 0; i < CHANGES; i++) {
+            final Ticket ticket = tickets.get(random.nextInt(TICKETS));
+            ticket.setBusinessPriority(pick(BusinessPriority.values(), random));
+            aggregates.update(ticket);
+        }
+    }
+
+    @Test
+    public void countsMatchTheTickets() {
+        for (final TicketType type : TicketType.values()) {
+            assertThat(aggregates.active().count(type)).isEqualTo(count(ticket ->
+                    isActive(ticket) && ticket.getTicketType() == type));
+        }
+        for (final BusinessPriority priority : BusinessPriority.values()) {
+            assertThat(aggregates.resolved().count(priority)).isEqualTo(count(ticket ->
+                    !isActive(ticket) && ticket.getBusinessPriority() == priority));
+        }
+    }
+
+    @Test
+    public void sumsMatchTheLoopInIdOrder() {
+        final Sums sums = aggregates.sumScores(tickets::get);
+        for (final TicketType type : TicketType.values()) {
+            double impact = 0;
+            double risk = 0;
+            double efficiency = 0;
+            for (final Ticket ticket : tickets) {
+                if (ticket.getTicketType() != type) {
+                    continue;
+                }
+                if (isActive(ticket)) {
+                    impact += ticket.getImpact();
+                    risk += ticket.getRisk();
+                } else {
+                    efficiency += ticket.getEfficiency();
+                }
+            }
+            assertThat(sums.sum(Metric.IMPACT, type)).isEqualTo(impact);
+            assertThat(sums.sum(Metric.RISK, type)).isEqualTo(risk);
+            assertThat(sums.sum(Metric.EFFICIENCY, type)).isEqualTo(efficiency);
+        }
+    }
+
+    @Test
+    public void missingScoresOnlyFailTheirOwnSum() {
+        final Ticket unsolved = tickets.stream()
+                .filter(ticket -> !isActive(ticket))
+                .findFirst()
+                .orElseThrow();
+        unsolved.setSolvedAt(null);
+        aggregates.update(unsolved);
+
+        final Sums sums = aggregates.sumScores(tickets::get);
+        for (final TicketType type : TicketType.values()) {
+            sums.sum(Metric.IMPACT, type);
+        }
+        assertThatThrownBy(() -> sums.sum(Metric.EFFICIENCY, unsolved.getTicketType()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private int count(final Predicate<Ticket> filter) {
+        return (int) tickets.stream().filter(filter).count();
+    }
+
+    private static boolean isActive(final Ticket ticket) {
+        return ticket.getStatus() == Status.OPEN || ticket.getStatus() == Status.IN_PROGRESS;
+    }
+
+    private static Ticket ticket(final int id, final Random random) {
+        final Ticket.Builder<?> builder = switch (TicketType.values()[random.nextInt(3)]) {
+            case BUG -> new Bug.Builder()
+                    .frequency(pick(Bug.Frequency.values(), random))
+                    .severity(pick(Bug.Severity.values(), random))
+                    .type("BUG");
+            case FEATURE_REQUEST -> new FeatureRequest.Builder()
+                    .businessValue(pick(FeatureRequest.BusinessValue.values(), random))
+                    .customerDemand(pick(FeatureRequest.CustomerDemand.values(), random))
+                    .type("FEATURE_REQUEST");
+            case UI_FEEDBACK -> new UIFeedback.Builder()
+                    .businessValue(pick(FeatureRequest.BusinessValue.values(), random))
+                    .usabilityScore(1 + random.nextInt(MAX_USABILITY))
+                    .type("UI_FEEDBACK");
+        };
+        final Ticket ticket = builder
+                .id(id)
+                .title("ticket " + id)
+                .businessPriority(pick(BusinessPriority.values(), random))
+                .status(pick(Status.values(), random))
+                .reportedBy("reporter")
+                .createdAt("2025-10-01")
+                .build();
+        if (!isActive(ticket)) {
+            ticket.setAssignedAt("2025-10-02");
+            ticket.setSolvedAt(String.format("2025-10-%02d",
+                    2 + random.nextInt(MAX_RESOLUTION_DAYS)));
+        }
+        return ticket;
+    }
+
+    private static <T> T pick(final T[] values, final Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}